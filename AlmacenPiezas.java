@@ -0,0 +1,69 @@
+import java.util.ArrayList;
+
+/**
+ * Almacén compacto de piezas.
+ * Guarda cada lado de las piezas en un arreglo de enteros propio (estructura de arreglos),
+ * direccionado por el id de la pieza (su posición en la lista original).
+ * Evita leer los lados a través de objetos Pieza en tableros y cromosomas grandes
+ * (TableroCompacto, Cromosoma): quien lo usa guarda solo ids.
+ * @autor Melany Jirón Díaz
+ * @version 1.1
+ */
+public class AlmacenPiezas {
+
+    // Lados de cada pieza por id
+    private int[] arriba;
+    private int[] derecha;
+    private int[] abajo;
+    private int[] izquierda;
+
+    // Lista original, para devolver las piezas al mostrar resultados
+    private ArrayList<Pieza> piezas;
+
+    /**
+     * Constructor que copia los lados de una lista de piezas.
+     * @param piezas Lista de piezas; el id de cada una es su posición en la lista.
+     */
+    public AlmacenPiezas(ArrayList<Pieza> piezas) {
+        int cantidad = piezas.size();
+        this.piezas = piezas;
+        this.arriba = new int[cantidad];
+        this.derecha = new int[cantidad];
+        this.abajo = new int[cantidad];
+        this.izquierda = new int[cantidad];
+        for (int id = 0; id < cantidad; id++) {
+            Pieza pieza = piezas.get(id);
+            arriba[id] = pieza.getArriba();
+            derecha[id] = pieza.getDerecha();
+            abajo[id] = pieza.getAbajo();
+            izquierda[id] = pieza.getIzquierda();
+        }
+    }
+
+    // Getters por id
+    public int getArriba(int id) {
+        return arriba[id];
+    }
+
+    public int getDerecha(int id) {
+        return derecha[id];
+    }
+
+    public int getAbajo(int id) {
+        return abajo[id];
+    }
+
+    public int getIzquierda(int id) {
+        return izquierda[id];
+    }
+
+    /**
+     * Obtiene la pieza original de un id (las piezas son inmutables y se comparten).
+     * Útil solo para mostrar resultados.
+     * @param id Id de la pieza.
+     * @return Pieza de la lista original.
+     */
+    public Pieza getPieza(int id) {
+        return piezas.get(id);
+    }
+}
@@ -4,6 +4,10 @@ import java.util.ArrayList;
  * Clase auxiliar que analiza y mantiene información sobre las posiciones
  * del tablero y sus restricciones. Optimiza el cálculo de opciones disponibles
  * para implementar eficientemente la heurística MRV.
+ * Los dominios de cada celda se mantienen de forma incremental mediante DominiosCeldas,
+ * por lo que las piezas deben colocarse y quitarse a través de esta clase.
+ * Las piezas idénticas se agrupan en tipos (TiposPiezas): los dominios y las colocaciones usan
+ * el número de tipo, y en el tablero se coloca la siguiente copia sin usar de ese tipo.
  * 
  * @author Melany Jirón Díaz
  * @version 1.0
@@ -11,8 +15,9 @@ import java.util.ArrayList;
 public class AnalisisTablero {
     
     private Tablero tablero;
-    private ArrayList<Pieza> piezas;
+    private TiposPiezas tipos;
     private ValidadorPosicion validador;
+    private DominiosCeldas dominios;
     private int tamaño;
     
     /**
@@ -23,9 +28,68 @@ public class AnalisisTablero {
      */
     public AnalisisTablero(Tablero tablero, ArrayList<Pieza> piezas, int tamaño) {
         this.tablero = tablero;
-        this.piezas = piezas;
+        this.tipos = new TiposPiezas(piezas);
         this.tamaño = tamaño;
         this.validador = new ValidadorPosicion(tablero);
+        this.dominios = new DominiosCeldas(tipos, new IndicePiezas(tipos.getRepresentantes()), tablero.getMetricas(),
+                                           tamaño);
+    }
+
+    /**
+     * Coloca la siguiente copia sin usar de un tipo en el tablero y actualiza los dominios de las celdas vecinas.
+     * @param fila Fila donde se colocará la pieza.
+     * @param columna Columna donde se colocará la pieza.
+     * @param id Tipo de la pieza (ver TiposPiezas).
+     */
+    public void colocarPieza(int fila, int columna, int id) {
+        tablero.colocarPieza(fila, columna, tipos.getCopia(id, dominios.getRestantes(id)));
+        dominios.colocar(fila * tamaño + columna, id);
+    }
+
+    /**
+     * Quita la última pieza colocada y restaura los dominios de sus vecinas.
+     * @param fila Fila de la pieza a quitar.
+     * @param columna Columna de la pieza a quitar.
+     */
+    public void quitarPieza(int fila, int columna) {
+        dominios.deshacer();
+        tablero.quitarPieza(fila, columna);
+    }
+
+    /**
+     * Busca la celda más restringida del tablero (heurística MRV) usando la cola de dominios.
+     * @return Celda más restringida (fila * tamaño + columna), o -1 si el tablero está lleno.
+     */
+    public int buscarCeldaMasRestringida() {
+        return dominios.buscarMasRestringida();
+    }
+
+    /**
+     * Obtiene los tipos de pieza candidatos de una celda.
+     * Solo los primeros getTamañoDominio(celda) tipos son válidos.
+     * @param celda Celda a consultar.
+     * @return Arreglo con los tipos candidatos.
+     */
+    public int[] getDominio(int celda) {
+        return dominios.getDominio(celda);
+    }
+
+    /**
+     * Obtiene la cantidad de tipos de pieza candidatos de una celda.
+     * @param celda Celda a consultar.
+     * @return Tamaño del dominio de la celda.
+     */
+    public int getTamañoDominio(int celda) {
+        return dominios.getTamañoDominio(celda);
+    }
+
+    /**
+     * Indica si ya se colocaron en esta búsqueda todas las copias de un tipo de pieza.
+     * @param id Tipo de la pieza.
+     * @return true si no quedan copias sin usar, false en caso contrario.
+     */
+    public boolean estaUsada(int id) {
+        return dominios.estaUsada(id);
     }
     
     /**
@@ -34,30 +98,17 @@ public class AnalisisTablero {
      * @return PosicionRestringida con la posición más restringida, o null si el tablero está lleno.
      */
     public PosicionRestringida buscarPosicionMasRestringida() {
-        PosicionRestringida mejor = null;
-        int minOpciones = Integer.MAX_VALUE;
-        
-        for (int i = 0; i < tamaño; i++) {
-            for (int j = 0; j < tamaño; j++) {
-                // Solo evaluar posiciones vacías
-                if (tablero.getPieza(i, j) == null) {
-                    int opciones = contarOpcionesDisponibles(i, j);
-                    
-                    if (opciones < minOpciones) {
-                        minOpciones = opciones;
-                        mejor = new PosicionRestringida(i, j, opciones);
-                        
-                        // Poda: si una posición no tiene opciones, no hay solución posible
-                        if (minOpciones == 0) {
-                            tablero.incrementarPodas();
-                            return mejor;
-                        }
-                    }
-                }
-            }
+        int celda = dominios.buscarMasRestringida();
+        if (celda == -1) {
+            return null;
         }
-        
-        return mejor;
+        int opciones = dominios.getTamañoDominio(celda);
+
+        // Poda: si una posición no tiene opciones, no hay solución posible
+        if (opciones == 0) {
+            tablero.getMetricas().incrementarPodas();
+        }
+        return new PosicionRestringida(celda / tamaño, celda % tamaño, opciones);
     }
     
     /**
@@ -65,19 +116,20 @@ public class AnalisisTablero {
      * @return true si todas las posiciones tienen piezas, false en caso contrario.
      */
     public boolean estaTableroLleno() {
-        for (int i = 0; i < tamaño; i++) {
-            for (int j = 0; j < tamaño; j++) {
-                if (tablero.getPieza(i, j) == null) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return dominios.getCeldasVacias() == 0;
+    }
+
+    /**
+     * Obtiene la cantidad de piezas colocadas en el tablero.
+     * @return Celdas ocupadas.
+     */
+    public int getPiezasColocadas() {
+        return tamaño * tamaño - dominios.getCeldasVacias();
     }
     
     /**
      * Cuenta cuántas piezas no usadas pueden colocarse en una posición dada.
-     * Itera sobre las piezas disponibles y verifica si encajan.
+     * Itera sobre los tipos de pieza y suma las copias sin usar de los que encajan.
      * @param fila Fila de la posición a evaluar.
      * @param columna Columna de la posición a evaluar.
      * @return Número de piezas que encajan en esa posición.
@@ -85,9 +137,9 @@ public class AnalisisTablero {
     public int contarOpcionesDisponibles(int fila, int columna) {
         int count = 0;
         
-        for (Pieza pieza : piezas) {
-            if (!pieza.isUsada() && validador.encaja(fila, columna, pieza)) {
-                count++;
+        for (int id = 0; id < tipos.getCantidadTipos(); id++) {
+            if (!dominios.estaUsada(id) && validador.encaja(fila, columna, tipos.getRepresentantes().get(id))) {
+                count += dominios.getRestantes(id);
             }
         }
         
@@ -0,0 +1,311 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.function.LongToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Clase que guarda y carga un rompecabezas en un archivo binario compacto (.rmp), para que
+ * las comparaciones entre versiones usen exactamente las mismas piezas, en el mismo orden,
+ * y los tableros grandes no se tengan que volver a generar.
+ *
+ * Formato (big-endian):
+ *   - Encabezado de 24 bytes: "RMPZ", versión (1 byte), bits por lado (1 byte), 2 bytes reservados,
+ *     tamaño (int), valor máximo (int) y semilla (long; -1 si las piezas no se generaron con Piezas).
+ *   - Lados empaquetados: tamaño * tamaño piezas en el orden de la lista, cada una con sus lados
+ *     arriba, derecha, abajo e izquierda, usando solo los bits necesarios para el valor máximo
+ *     (4 bits por lado con valores 0..15), sin separación entre piezas.
+ * Para tableros que no caben como objetos, generarArchivo() escribe el archivo sin crear piezas
+ * y RompecabezasMapeado lo lee mapeado en memoria.
+ * @autor Melany Jirón Díaz
+ * @version 1.1
+ */
+public class ArchivoRompecabezas {
+
+    public static final String EXTENSION = ".rmp";
+
+    static final int MAGICO = 0x524D505A; // "RMPZ"
+    static final int VERSION = 1;
+    static final int ENCABEZADO = 24;
+
+    private final int tamaño;
+    private final int valorMaximo;
+    private final long semilla;
+    private final ArrayList<Pieza> piezas;
+
+    /**
+     * Constructor.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param valorMaximo Valor máximo de los lados.
+     * @param semilla Semilla con la que se generaron las piezas, o -1.
+     * @param piezas Piezas en el orden en que se entregan a los algoritmos.
+     */
+    public ArchivoRompecabezas(int tamaño, int valorMaximo, long semilla, ArrayList<Pieza> piezas) {
+        if (piezas.size() != tamaño * tamaño) {
+            throw new IllegalArgumentException("Se esperaban " + (tamaño * tamaño) + " piezas y hay " + piezas.size());
+        }
+        this.tamaño = tamaño;
+        this.valorMaximo = valorMaximo;
+        this.semilla = semilla;
+        this.piezas = piezas;
+    }
+
+    /**
+     * Genera con Piezas la instancia de una semilla.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param valorMaximo Valor máximo de los lados.
+     * @param semilla Semilla del generador.
+     * @return Rompecabezas generado.
+     */
+    public static ArchivoRompecabezas generar(int tamaño, int valorMaximo, long semilla) {
+        return new ArchivoRompecabezas(tamaño, valorMaximo, semilla, new Piezas(tamaño, valorMaximo, semilla).getPiezas());
+    }
+
+    /**
+     * Nombre del archivo de una instancia generada, por ejemplo t10_r15_s3.rmp.
+     * @param tamaño Tamaño del tablero.
+     * @param valorMaximo Valor máximo de los lados.
+     * @param semilla Semilla del generador.
+     * @return Nombre del archivo.
+     */
+    public static String nombreArchivo(int tamaño, int valorMaximo, long semilla) {
+        return "t" + tamaño + "_r" + valorMaximo + "_s" + semilla + EXTENSION;
+    }
+
+    /**
+     * Carga la instancia del corpus si ya existe; si no, la genera y la guarda.
+     * @param directorio Directorio del corpus.
+     * @param tamaño Tamaño del tablero.
+     * @param valorMaximo Valor máximo de los lados.
+     * @param semilla Semilla del generador.
+     * @return Rompecabezas cargado o generado.
+     * @throws IOException Si no se puede leer o escribir el archivo.
+     */
+    public static ArchivoRompecabezas cargarOGenerar(Path directorio, int tamaño, int valorMaximo, long semilla)
+            throws IOException {
+        Path archivo = directorio.resolve(nombreArchivo(tamaño, valorMaximo, semilla));
+        if (Files.exists(archivo)) {
+            return leer(archivo);
+        }
+        ArchivoRompecabezas rompecabezas = generar(tamaño, valorMaximo, semilla);
+        Files.createDirectories(directorio);
+        rompecabezas.escribir(archivo);
+        return rompecabezas;
+    }
+
+    /**
+     * Lista los archivos .rmp de un corpus, ordenados por nombre.
+     * @param directorio Directorio del corpus.
+     * @return Rutas de los archivos.
+     * @throws IOException Si no se puede leer el directorio.
+     */
+    public static ArrayList<Path> listarCorpus(Path directorio) throws IOException {
+        ArrayList<Path> archivos = new ArrayList<>();
+        try (Stream<Path> contenido = Files.list(directorio)) {
+            contenido.filter(p -> p.getFileName().toString().endsWith(EXTENSION))
+                     .sorted()
+                     .forEach(archivos::add);
+        }
+        return archivos;
+    }
+
+    /**
+     * Guarda el rompecabezas en un archivo (lo crea o lo reemplaza).
+     * @param archivo Ruta del archivo.
+     * @throws IOException Si no se puede escribir el archivo.
+     */
+    public void escribir(Path archivo) throws IOException {
+        int maximo = valorMaximo;
+        for (Pieza pieza : piezas) {
+            maximo = Math.max(maximo, Math.max(Math.max(pieza.getArriba(), pieza.getDerecha()),
+                                               Math.max(pieza.getAbajo(), pieza.getIzquierda())));
+            if (Math.min(Math.min(pieza.getArriba(), pieza.getDerecha()),
+                         Math.min(pieza.getAbajo(), pieza.getIzquierda())) < 0) {
+                throw new IllegalArgumentException("El formato no admite lados negativos");
+            }
+        }
+        escribir(archivo, tamaño, valorMaximo, semilla, bitsPorLado(maximo), i -> {
+            Pieza pieza = piezas.get((int) (i / 4));
+            switch ((int) (i % 4)) {
+                case 0:
+                    return pieza.getArriba();
+                case 1:
+                    return pieza.getDerecha();
+                case 2:
+                    return pieza.getAbajo();
+                default:
+                    return pieza.getIzquierda();
+            }
+        });
+    }
+
+    /**
+     * Genera y guarda la instancia de una semilla sin crear objetos Pieza, para tableros muy grandes.
+     * El archivo es idéntico al de generar(tamaño, valorMaximo, semilla).escribir(archivo): se usan
+     * los mismos números aleatorios en el mismo orden que Piezas. Ocupa 12 bytes de heap por pieza
+     * (los lados empaquetados y la permutación del desorden).
+     * @param archivo Ruta del archivo.
+     * @param tamaño Tamaño del tablero (a lo sumo 46340).
+     * @param valorMaximo Valor máximo de los lados (a lo sumo 65535).
+     * @param semilla Semilla del generador.
+     * @throws IOException Si no se puede escribir el archivo.
+     */
+    public static void generarArchivo(Path archivo, int tamaño, int valorMaximo, long semilla) throws IOException {
+        if (tamaño < 1 || (long) tamaño * tamaño > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Tamaño fuera de rango: " + tamaño);
+        }
+        if (valorMaximo < 0 || valorMaximo > 0xFFFF) {
+            throw new IllegalArgumentException("El valor máximo debe estar entre 0 y 65535");
+        }
+        int cantidad = tamaño * tamaño;
+        Random random = new Random(semilla);
+
+        // Lados de cada celda en orden de fila, 16 bits por lado (arriba, derecha, abajo, izquierda)
+        long[] celdas = new long[cantidad];
+        for (int i = 0; i < tamaño; i++) {
+            for (int j = 0; j < tamaño; j++) {
+                long arriba = i == 0 ? random.nextInt(valorMaximo + 1) : (celdas[(i - 1) * tamaño + j] >>> 16) & 0xFFFF;
+                long izquierda = j == 0 ? random.nextInt(valorMaximo + 1) : (celdas[i * tamaño + j - 1] >>> 32) & 0xFFFF;
+                long derecha = random.nextInt(valorMaximo + 1);
+                long abajo = random.nextInt(valorMaximo + 1);
+                celdas[i * tamaño + j] = arriba << 48 | derecha << 32 | abajo << 16 | izquierda;
+            }
+        }
+
+        // Mismo desorden que Piezas.desordenarPiezas
+        int[] orden = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            orden[i] = i;
+        }
+        for (int i = cantidad - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = orden[i];
+            orden[i] = orden[j];
+            orden[j] = temp;
+        }
+
+        escribir(archivo, tamaño, valorMaximo, semilla, bitsPorLado(valorMaximo),
+                 i -> (int) (celdas[orden[(int) (i / 4)]] >>> (48 - 16 * (i % 4))) & 0xFFFF);
+    }
+
+    /**
+     * Escribe el encabezado y los lados empaquetados.
+     * @param lado Valor del lado i (pieza i / 4, lado i % 4 en orden arriba, derecha, abajo, izquierda).
+     */
+    private static void escribir(Path archivo, int tamaño, int valorMaximo, long semilla, int bits,
+                                 LongToIntFunction lado) throws IOException {
+        try (DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archivo), 1 << 16))) {
+            salida.writeInt(MAGICO);
+            salida.writeByte(VERSION);
+            salida.writeByte(bits);
+            salida.writeShort(0);
+            salida.writeInt(tamaño);
+            salida.writeInt(valorMaximo);
+            salida.writeLong(semilla);
+
+            // Acumular los bits de los lados y escribir cada byte completo
+            long lados = 4L * tamaño * tamaño;
+            long acumulado = 0;
+            int bitsAcumulados = 0;
+            for (long i = 0; i < lados; i++) {
+                acumulado = (acumulado << bits) | lado.applyAsInt(i);
+                bitsAcumulados += bits;
+                while (bitsAcumulados >= 8) {
+                    bitsAcumulados -= 8;
+                    salida.writeByte((int) (acumulado >>> bitsAcumulados));
+                }
+            }
+            if (bitsAcumulados > 0) {
+                salida.writeByte((int) (acumulado << (8 - bitsAcumulados)));
+            }
+        }
+    }
+
+    /**
+     * Carga un rompecabezas guardado con escribir().
+     * @param archivo Ruta del archivo.
+     * @return Rompecabezas cargado.
+     * @throws IOException Si no se puede leer el archivo o no tiene el formato esperado.
+     */
+    public static ArchivoRompecabezas leer(Path archivo) throws IOException {
+        return leer(ByteBuffer.wrap(Files.readAllBytes(archivo)), archivo.toString());
+    }
+
+    /**
+     * Carga un rompecabezas desde el contenido de un archivo .rmp.
+     * @param datos Contenido del archivo desde su posición actual.
+     * @param nombre Nombre para los mensajes de error.
+     * @return Rompecabezas cargado.
+     * @throws IOException Si el contenido no tiene el formato esperado.
+     */
+    static ArchivoRompecabezas leer(ByteBuffer datos, String nombre) throws IOException {
+        try {
+            if (datos.getInt() != MAGICO) {
+                throw new IOException(nombre + " no es un archivo de rompecabezas");
+            }
+            int version = datos.get();
+            if (version != VERSION) {
+                throw new IOException(nombre + " tiene la versión " + version + " del formato; se esperaba " + VERSION);
+            }
+            int bits = datos.get();
+            datos.getShort();
+            int tamaño = datos.getInt();
+            int valorMaximo = datos.getInt();
+            long semilla = datos.getLong();
+            if (bits < 1 || bits > 31 || tamaño < 1) {
+                throw new IOException(nombre + " tiene un encabezado inválido");
+            }
+            long bytesLados = ((long) tamaño * tamaño * 4 * bits + 7) / 8;
+            if (datos.remaining() < bytesLados) {
+                throw new IOException(nombre + " está incompleto");
+            }
+
+            ArrayList<Pieza> piezas = new ArrayList<>(tamaño * tamaño);
+            int mascara = (1 << bits) - 1;
+            long acumulado = 0;
+            int bitsAcumulados = 0;
+            int[] lados = new int[4];
+            for (int i = 0; i < tamaño * tamaño; i++) {
+                for (int k = 0; k < 4; k++) {
+                    while (bitsAcumulados < bits) {
+                        acumulado = (acumulado << 8) | (datos.get() & 0xFF);
+                        bitsAcumulados += 8;
+                    }
+                    bitsAcumulados -= bits;
+                    lados[k] = (int) (acumulado >>> bitsAcumulados) & mascara;
+                }
+                piezas.add(new Pieza(lados[0], lados[1], lados[2], lados[3]));
+            }
+            return new ArchivoRompecabezas(tamaño, valorMaximo, semilla, piezas);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(nombre + " está incompleto", e);
+        }
+    }
+
+    /**
+     * Bits necesarios para guardar valores de 0 a maximo.
+     */
+    static int bitsPorLado(int maximo) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(maximo));
+    }
+
+    // Getters
+    public int getTamaño() {
+        return tamaño;
+    }
+    public int getValorMaximo() {
+        return valorMaximo;
+    }
+    public long getSemilla() {
+        return semilla;
+    }
+    public ArrayList<Pieza> getPiezas() {
+        return piezas;
+    }
+}
@@ -1,3 +1,7 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
 /**
@@ -8,16 +12,36 @@ import java.util.ArrayList;
  * - AnalisisTablero: Gestiona el análisis de restricciones
  * - ValidadorPosicion: Valida si una pieza encaja
  * - PosicionRestringida: Representa una posición con su información de restricción
+ * - BusquedaIterativa: Motor de backtracking con pila explícita (sin recursión)
+ * Implementa Resolvedor: si se agota el presupuesto devuelve el tablero parcial con más
+ * piezas que alcanzó la búsqueda. Implementa Reanudable: con un PuntoControl guarda la pila
+ * de la búsqueda y puede continuarla desde un archivo.
  * 
  * @author Jeremy Montero y Melany Jirón Díaz
  * @version 2.0
  */
-public class AvanceRapido {
+public class AvanceRapido implements Reanudable {
 
     private ArrayList<Pieza> piezas;
     private Tablero tablero;
+    private Metricas metricas;
     private int tamaño;
     private AnalisisTablero analisis;
+    private BusquedaIterativa busqueda;
+    private ResultadoEjecucion resultado;
+
+    // Tablero parcial con más piezas alcanzado (mejor resultado si se agota el presupuesto)
+    private Tablero mejorParcial;
+    private int mejorProfundidad;
+
+    // Presupuesto de la búsqueda y si se imprime el reporte al terminar
+    private Presupuesto presupuesto;
+    private boolean mostrarResultados;
+
+    // Inicio de la ejecución (descontando el tiempo de las ejecuciones anteriores) y puntos de control
+    private long inicio;
+    private long nanosPrevios;
+    private PuntoControl puntoControl;
 
     /**
      * Constructor de la clase AvanceRapido.
@@ -26,10 +50,46 @@ public class AvanceRapido {
      * @param tamaño Tamaño del tablero (tamaño x tamaño).
      */
     public AvanceRapido(ArrayList<Pieza> piezas, int tamaño) {
+        this(piezas, tamaño, new MetricasSimples());
+    }
+
+    /**
+     * Constructor con las métricas a utilizar.
+     * @param piezas Lista de piezas que se utilizarán para resolver el rompecabezas.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param metricas Métricas donde se registran las mediciones (MetricasNulas para no medir).
+     */
+    public AvanceRapido(ArrayList<Pieza> piezas, int tamaño, Metricas metricas) {
         this.piezas = piezas;
         this.tamaño = tamaño;
-        this.tablero = new Tablero(tamaño);
+        this.metricas = metricas;
+        this.tablero = new Tablero(tamaño, metricas);
         this.analisis = new AnalisisTablero(tablero, piezas, tamaño);
+        this.busqueda = new BusquedaIterativa(tamaño * tamaño);
+        this.presupuesto = Presupuesto.sinLimite();
+        this.mostrarResultados = true;
+    }
+
+    /**
+     * Activa o desactiva la impresión del reporte y del tablero al terminar.
+     * @param mostrarResultados true para imprimir.
+     */
+    @Override
+    public void setMostrarResultados(boolean mostrarResultados) {
+        this.mostrarResultados = mostrarResultados;
+    }
+
+    @Override
+    public void setPuntoControl(PuntoControl puntoControl) {
+        this.puntoControl = puntoControl;
+    }
+
+    @Override
+    public void reanudar(Path archivo) throws IOException {
+        PuntoControl.Estado estado = PuntoControl.leer(archivo, PuntoControl.AVANCE_RAPIDO, tamaño, piezas);
+        busqueda.reanudar(new Espacio(), estado.getDatos());
+        estado.restaurarMetricas(metricas);
+        nanosPrevios = estado.getNanos();
     }
 
     /**
@@ -38,82 +98,149 @@ public class AvanceRapido {
      * @return true si se encuentra una solución, false en caso contrario.
      */
     public boolean solucionAR() {
-        Runtime runtime = Runtime.getRuntime();
-        runtime.gc();
-        long memoriaInicial = runtime.totalMemory() - runtime.freeMemory();
+        return resolver(Presupuesto.sinLimite()).isSolucionEncontrada();
+    }
+
+    /**
+     * Resuelve con la heurística MRV sin exceder el presupuesto.
+     * @param presupuesto Tiempo y nodos máximos, y cancelación.
+     * @return Resultado con la solución o el tablero parcial con más piezas.
+     */
+    @Override
+    public ResultadoEjecucion resolver(Presupuesto presupuesto) {
+        this.presupuesto = presupuesto;
+        this.mejorParcial = tablero.copiar();
+        this.mejorProfundidad = analisis.getPiezasColocadas();
+
+        MedicionMemoria medicion = MedicionMemoria.iniciar(false, presupuesto.isMedirMemoria());
         
-        long inicio = System.nanoTime();
+        long inicio = System.nanoTime() - nanosPrevios;
+        this.inicio = inicio;
+        this.nanosPrevios = 0;
+        presupuesto.iniciar();
 
-        boolean resultado = backtrackingMRV();
+        busqueda.setPuntoControl(puntoControl);
+        boolean resultado = busqueda.buscar(new Espacio(), presupuesto);
 
         long fin = System.nanoTime();
-        
-        long memoriaFinal = runtime.totalMemory() - runtime.freeMemory();
-        long memoriaUsada = memoriaFinal - memoriaInicial;
-        
-        double tiempo = (fin - inicio) / 1_000_000_000.0;
+        medicion.detener();
+
+        Tablero mejor = resultado ? tablero : mejorParcial;
+        this.resultado = new ResultadoEjecucion("Avance Rápido (MRV)", resultado, presupuesto.isAgotado(), mejor,
+                                                mejor.contarCoincidencias(), 2 * tamaño * (tamaño - 1),
+                                                fin - inicio, medicion, metricas);
+        if (!mostrarResultados) {
+            return this.resultado;
+        }
 
         System.out.println("====== Heurística MRV (Minimum Remaining Values) ======");
         System.out.println("Solución encontrada: " + resultado);
-        System.out.println("Duración: " + String.format("%.3f s", tiempo));
-        System.out.println("Memoria usada: " + (memoriaUsada / 1024) + " KB");
-        System.out.println("Comparaciones: " + tablero.getComparaciones());
-        System.out.println("Asignaciones: " + tablero.getAsignaciones());
-        System.out.println("Instrucciones ejecutadas: " + tablero.getInstrucciones());
+        if (presupuesto.isAgotado()) {
+            System.out.println("Búsqueda detenida: " + presupuesto.getMotivo() + ".");
+        }
+        System.out.println("Duración: " + String.format("%.3f s", this.resultado.getTiempoSegundos()));
+        this.resultado.imprimirMemoria();
+        System.out.println("Comparaciones: " + metricas.getComparaciones());
+        System.out.println("Asignaciones: " + metricas.getAsignaciones());
+        System.out.println("Instrucciones ejecutadas: " + metricas.getInstrucciones());
         System.out.println("============================================");
 
         if (resultado) {
             System.out.println("Tablero solución:");
             tablero.imprimirTablero();
+        } else if (presupuesto.isAgotado()) {
+            System.out.println("Mejor tablero parcial (" + mejorProfundidad + " piezas):");
+            mejorParcial.imprimirTablero();
         }
+        return this.resultado;
+    }
+
+    /**
+     * Obtiene el resultado estructurado de la última ejecución de solucionAR().
+     * @return Resultado, o null si aún no se ha resuelto.
+     */
+    public ResultadoEjecucion getResultado() {
         return resultado;
     }
 
     /**
-     * Método recursivo que implementa el algoritmo de backtracking con heurística MRV.
-     * Selecciona la posición más restringida (con menos opciones) y prueba colocar piezas en ella.
-     * @return true si se logra completar el tablero correctamente, false en caso contrario.
+     * Problema de colocación de la heurística MRV para el motor iterativo (BusquedaIterativa).
+     * En cada nivel elige la posición más restringida (con menos opciones) y prueba en ella
+     * únicamente las piezas de su dominio; todas respetan a las vecinas colocadas.
      */
-    private boolean backtrackingMRV() {
-        // Verificar si el tablero está completamente lleno (caso base)
-        if (analisis.estaTableroLleno()) {
-            return true;
+    private class Espacio implements EspacioBusqueda {
+
+        @Override
+        public boolean completo(int profundidad) {
+            // Verificar si el tablero está completamente lleno (caso base)
+            return analisis.estaTableroLleno();
         }
-        
-        // Buscar la posición más restringida
-        PosicionRestringida posicion = analisis.buscarPosicionMasRestringida();
-        
-        // Si no hay posición, significa que no hay posiciones vacías (tablero lleno)
-        // Este caso ya fue manejado arriba, pero este es un checkpoint adicional
-        if (posicion == null) {
-            return false;
+
+        @Override
+        public void visitar(int profundidad) {
+            // Guardar el tablero parcial con más piezas alcanzado
+            int colocadas = analisis.getPiezasColocadas();
+            if (colocadas > mejorProfundidad) {
+                mejorProfundidad = colocadas;
+                mejorParcial = tablero.copiar();
+            }
         }
-        
-        // Si la posición tiene 0 opciones, se detectó un conflicto
-        if (posicion.getOpcionesDisponibles() == 0) {
-            return false;
+
+        @Override
+        public int elegirCelda(int profundidad) {
+            // Buscar la posición más restringida
+            int celda = analisis.buscarCeldaMasRestringida();
+
+            // Si la posición tiene 0 opciones, se detectó un conflicto
+            if (analisis.getTamañoDominio(celda) == 0) {
+                metricas.incrementarPodas();
+                return -1;
+            }
+            return celda;
         }
-        
-        // Intentar colocar cada pieza disponible en esta posición
-        for (Pieza pieza : piezas) {
-            if (!pieza.isUsada()) {
-                tablero.incrementarAlternativas(); // Alternativas
-
-                // Validar si la pieza encaja
-                if (analisis.encaja(posicion.getFila(), posicion.getColumna(), pieza)) { // Comparaciones
-                    // Colocar la pieza y continuar recursivamente
-                    tablero.colocarPieza(posicion.getFila(), posicion.getColumna(), pieza); // Asignaciones
-
-                    if (backtrackingMRV()) {
-                        return true;
-                    }
-                    
-                    // Backtrack: quitar la pieza
-                    tablero.quitarPieza(posicion.getFila(), posicion.getColumna()); // Asignaciones
-                }
+
+        @Override
+        public boolean reelegirCelda(int profundidad, int celda) {
+            // La cola de celdas desempata según las ramas ya recorridas: basta con que la guardada
+            // esté vacía y sea una de las más restringidas (los tamaños dependen solo de las piezas colocadas)
+            int elegida = analisis.buscarCeldaMasRestringida();
+            if (elegida < 0 || celda < 0 || celda >= tamaño * tamaño || tablero.getPieza(celda / tamaño, celda % tamaño) != null) {
+                return false;
             }
+            return analisis.getTamañoDominio(celda) == analisis.getTamañoDominio(elegida);
+        }
+
+        @Override
+        public int[] getDominio(int celda) {
+            return analisis.getDominio(celda);
+        }
+
+        @Override
+        public int getTamañoDominio(int celda) {
+            return analisis.getTamañoDominio(celda);
+        }
+
+        @Override
+        public boolean estaUsada(int id) {
+            return analisis.estaUsada(id);
+        }
+
+        @Override
+        public void colocar(int celda, int id) {
+            metricas.incrementarAlternativas(); // Alternativas
+            analisis.colocarPieza(celda / tamaño, celda % tamaño, id); // Asignaciones
+        }
+
+        @Override
+        public void quitar(int celda) {
+            // Backtrack: quitar la pieza
+            analisis.quitarPieza(celda / tamaño, celda % tamaño); // Asignaciones
+        }
+
+        @Override
+        public DataOutputStream iniciarEstado(ByteArrayOutputStream bytes) throws IOException {
+            return PuntoControl.iniciarEstado(bytes, PuntoControl.AVANCE_RAPIDO, tamaño, piezas, metricas,
+                                              System.nanoTime() - inicio);
         }
-        
-        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,226 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Motor de backtracking iterativo con pila explícita.
+ * Reemplaza la recursión de una llamada por pieza colocada, que en un tablero de 100x100 llega
+ * a 10 000 marcos de la pila de Java y provoca StackOverflowError sin ajustar -Xss.
+ *
+ * Cada marco de la pila ocupa una posición en arreglos primitivos que se reservan una sola vez
+ * (celda elegida, dominio, tamaño del dominio y cursor del siguiente candidato), por lo que
+ * la búsqueda no crea objetos por nodo. El orden en que se visitan los nodos, se colocan y se
+ * quitan las piezas y se revisa el presupuesto es el mismo que el de la versión recursiva.
+ *
+ * Con un PuntoControl, la pila (celda, cursor y dominio de cada nivel) se guarda periódicamente y
+ * al agotarse el presupuesto; reanudar() la vuelve a construir colocando las mismas piezas, y la
+ * siguiente llamada a buscar() continúa desde ahí sin repetir las candidatas ya probadas.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class BusquedaIterativa {
+
+    private final int[] celdaPila;
+    private final int[][] dominioPila;
+    private final int[] tamañoPila;
+    private final int[] cursorPila;
+
+    // Puntos de control (null si no se usan) y profundidad desde la que continúa la siguiente búsqueda
+    private PuntoControl puntoControl;
+    private int profundidadInicial;
+    private long nodosDesdeRevision;
+
+    // Nodos entre dos consultas del reloj del punto de control
+    private static final int INTERVALO_PUNTO_CONTROL = 1024;
+
+    /**
+     * Constructor.
+     * @param maxProfundidad Máximo de piezas que se pueden colocar (tamaño * tamaño).
+     */
+    public BusquedaIterativa(int maxProfundidad) {
+        this.celdaPila = new int[maxProfundidad + 1];
+        this.dominioPila = new int[maxProfundidad + 1][];
+        this.tamañoPila = new int[maxProfundidad + 1];
+        this.cursorPila = new int[maxProfundidad + 1];
+    }
+
+    /**
+     * Busca una solución desde el estado actual del espacio (sin piezas colocadas por la búsqueda).
+     * Si encuentra solución, las piezas quedan colocadas; si no, el espacio queda como al inicio.
+     * @param espacio Problema a resolver.
+     * @param presupuesto Se cuenta un nodo por cada nodo visitado.
+     * @return true si encontró solución, false si no existe o si se agotó el presupuesto.
+     */
+    public boolean buscar(EspacioBusqueda espacio, Presupuesto presupuesto) {
+        int profundidad = profundidadInicial;
+        profundidadInicial = 0;
+
+        while (true) {
+            // Entrar en el nodo de esta profundidad
+            if (presupuesto.agotado()) {
+                if (puntoControl != null) {
+                    guardarEstado(espacio, profundidad);
+                }
+                return deshacerTodo(espacio, profundidad);
+            }
+            if (puntoControl != null && ++nodosDesdeRevision >= INTERVALO_PUNTO_CONTROL) {
+                nodosDesdeRevision = 0;
+                if (puntoControl.toca()) {
+                    guardarEstado(espacio, profundidad);
+                }
+            }
+            if (espacio.completo(profundidad)) {
+                return true;
+            }
+            espacio.visitar(profundidad);
+
+            int celda = espacio.elegirCelda(profundidad);
+            celdaPila[profundidad] = celda;
+            cursorPila[profundidad] = 0;
+            if (celda < 0) {
+                dominioPila[profundidad] = null;
+                tamañoPila[profundidad] = 0;
+            } else {
+                dominioPila[profundidad] = espacio.getDominio(celda);
+                tamañoPila[profundidad] = espacio.getTamañoDominio(celda);
+            }
+
+            // Buscar el siguiente candidato, retrocediendo mientras el marco se quede sin candidatos
+            while (true) {
+                int id = siguienteCandidato(espacio, profundidad);
+                if (id >= 0) {
+                    espacio.colocar(celdaPila[profundidad], id);
+                    profundidad++;
+                    break;
+                }
+                dominioPila[profundidad] = null;
+                if (profundidad == 0) {
+                    return false;
+                }
+                profundidad--;
+                espacio.quitar(celdaPila[profundidad]);
+                if (presupuesto.isAgotado()) {
+                    return deshacerTodo(espacio, profundidad);
+                }
+            }
+        }
+    }
+
+    /**
+     * Activa los puntos de control de las siguientes búsquedas.
+     * @param puntoControl Destino de los estados, o null para no guardarlos.
+     */
+    public void setPuntoControl(PuntoControl puntoControl) {
+        this.puntoControl = puntoControl;
+    }
+
+    /**
+     * Guarda el estado al entrar en un nodo: encabezado del espacio y, por cada nivel colocado,
+     * su celda, su cursor y su dominio en el orden en que se recorre.
+     */
+    private void guardarEstado(EspacioBusqueda espacio, int profundidad) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream salida = espacio.iniciarEstado(bytes);
+            salida.writeInt(profundidad);
+            for (int d = 0; d < profundidad; d++) {
+                salida.writeInt(celdaPila[d]);
+                salida.writeInt(cursorPila[d]);
+                salida.writeInt(tamañoPila[d]);
+                for (int k = 0; k < tamañoPila[d]; k++) {
+                    salida.writeInt(dominioPila[d][k]);
+                }
+            }
+            salida.flush();
+            puntoControl.guardar(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reconstruye la pila de un estado guardado colocando en cada nivel la última candidata probada.
+     * Cada nivel usa la celda guardada (reelegirCelda), ya que la elección puede depender de las
+     * ramas recorridas antes de guardar el estado.
+     * El espacio debe estar como al inicio de una búsqueda; la siguiente llamada a buscar() continúa
+     * desde el nodo en que se guardó el estado.
+     * @param espacio Problema a continuar (el mismo algoritmo e instancia que guardó el estado).
+     * @param entrada Datos de la pila, a continuación del encabezado.
+     * @throws IOException Si no se puede leer o la pila no corresponde al problema.
+     */
+    public void reanudar(EspacioBusqueda espacio, DataInputStream entrada) throws IOException {
+        int profundidad = entrada.readInt();
+        if (profundidad < 0 || profundidad >= celdaPila.length) {
+            throw new IOException("Profundidad inválida en el punto de control: " + profundidad);
+        }
+        for (int d = 0; d < profundidad; d++) {
+            int celda = entrada.readInt();
+            int cursor = entrada.readInt();
+            int tamaño = entrada.readInt();
+            espacio.visitar(d);
+            if (!espacio.reelegirCelda(d, celda) || espacio.getTamañoDominio(celda) != tamaño
+                    || cursor < 1 || cursor > tamaño) {
+                throw new IOException("El punto de control no corresponde a la búsqueda (nivel " + d + ")");
+            }
+
+            // El orden de un dominio puede depender de las ramas ya recorridas: se restaura el guardado
+            int[] dominio = espacio.getDominio(celda);
+            int[] guardado = new int[tamaño];
+            for (int k = 0; k < tamaño; k++) {
+                guardado[k] = entrada.readInt();
+            }
+            if (!Arrays.equals(dominio, 0, tamaño, guardado, 0, tamaño)) {
+                int[] actual = Arrays.copyOf(dominio, tamaño);
+                int[] ordenado = guardado.clone();
+                Arrays.sort(actual);
+                Arrays.sort(ordenado);
+                if (!Arrays.equals(actual, ordenado)) {
+                    throw new IOException("El punto de control no corresponde a la búsqueda (nivel " + d + ")");
+                }
+                System.arraycopy(guardado, 0, dominio, 0, tamaño);
+            }
+
+            celdaPila[d] = celda;
+            dominioPila[d] = dominio;
+            tamañoPila[d] = tamaño;
+            cursorPila[d] = cursor;
+            espacio.colocar(celda, dominio[cursor - 1]);
+        }
+        profundidadInicial = profundidad;
+    }
+
+    /**
+     * Avanza el cursor del marco hasta la siguiente pieza sin usar de su dominio.
+     * @return Id de la pieza, o -1 si no quedan candidatos.
+     */
+    private int siguienteCandidato(EspacioBusqueda espacio, int profundidad) {
+        int[] dominio = dominioPila[profundidad];
+        int tamaño = tamañoPila[profundidad];
+        for (int k = cursorPila[profundidad]; k < tamaño; k++) {
+            int id = dominio[k];
+            if (!espacio.estaUsada(id)) {
+                cursorPila[profundidad] = k + 1;
+                return id;
+            }
+        }
+        cursorPila[profundidad] = tamaño;
+        return -1;
+    }
+
+    /**
+     * Quita las piezas colocadas por la búsqueda al detenerse por el presupuesto,
+     * como al desenrollar la recursión.
+     * @return false.
+     */
+    private boolean deshacerTodo(EspacioBusqueda espacio, int profundidad) {
+        while (profundidad > 0) {
+            profundidad--;
+            dominioPila[profundidad] = null;
+            espacio.quitar(celdaPila[profundidad]);
+        }
+        return false;
+    }
+}
@@ -1,23 +1,38 @@
 /**
  * Clase que representa un Cromosoma dentro del algoritmo genético.
+ * Los genes son los ids de las piezas (su posición en la lista base) en un arreglo plano
+ * (fila * tamaño + columna), que es sobre el que opera el cruce. Los lados se leen de un
+ * AlmacenPiezas compartido por toda la población, por lo que un individuo no guarda objetos Pieza.
+ * El fitness se calcula de forma perezosa y se mantiene en caché; los intercambios
+ * de dos piezas se evalúan revisando solo los lados afectados (a lo sumo 8).
+ * También mantiene un hash tipo Zobrist de la configuración (XOR de una clave por celda y
+ * lados de la pieza), actualizado en cada intercambio, para detectar clones sin comparar celda por celda.
  * @autor Jeremy Montero
- * @version 1.0
+ * @version 1.1
  */
 public class Cromosoma {
 
-    private Pieza[][] genes;
+    private AlmacenPiezas almacen;
+    private int[] ids;
     private int tamaño;
     private int fitness;
+    private boolean fitnessCalculado;
+    private long hash;
+    private boolean hashCalculado;
 
     /**
-     * Constructor que recibe una matriz de piezas y construye el cromosoma.
-     * @param genes Matriz de piezas que representa el rompecabezas.
-     * @param tamaño representa el tamaño.
+     * Constructor que recibe los ids de las piezas y construye el cromosoma.
+     * El fitness se calcula la primera vez que se consulta.
+     * @param almacen Lados de las piezas base, compartidos por la población.
+     * @param ids Id de la pieza de cada celda (fila * tamaño + columna).
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
      */
-    public Cromosoma(Pieza[][] genes) {
-        this.genes = genes;
-        this.tamaño = genes.length;
-        calcularFitness();
+    public Cromosoma(AlmacenPiezas almacen, int[] ids, int tamaño) {
+        this.almacen = almacen;
+        this.ids = ids;
+        this.tamaño = tamaño;
+        this.fitnessCalculado = false;
+        this.hashCalculado = false;
     }
 
     /**
@@ -29,55 +44,212 @@ public class Cromosoma {
         fitness = 0;
 
         for (int i = 0; i < tamaño; i++) {
+            int fila = i * tamaño;
             for (int j = 0; j < tamaño; j++) {
+                int actual = ids[fila + j];
 
                 // Comparación horizontal
                 if (j < tamaño - 1) {
-                    if (genes[i][j].getDerecha() == genes[i][j + 1].getIzquierda()) {
+                    if (almacen.getDerecha(actual) == almacen.getIzquierda(ids[fila + j + 1])) {
                         fitness++;
                     }
                 }
 
                 // Comparación vertical
                 if (i < tamaño - 1) {
-                    if (genes[i][j].getAbajo() == genes[i + 1][j].getArriba()) {
+                    if (almacen.getAbajo(actual) == almacen.getArriba(ids[fila + tamaño + j])) {
                         fitness++;
                     }
                 }
             }
         }
+        fitnessCalculado = true;
     }
 
     /**
      * Obtiene el valor de fitness del cromosoma.
+     * Lo calcula solo si aún no está en caché.
      * @return Fitness calculado.
      */
     public int getFitness() {
+        if (!fitnessCalculado) {
+            calcularFitness();
+        }
         return fitness;
     }
 
     /**
-     * Obtiene la matriz de genes del cromosoma.
-     * @return Matriz de piezas.
+     * Calcula cuánto cambiaría el fitness al intercambiar dos piezas, sin recorrer el tablero.
+     * Solo revisa los lados de las dos posiciones involucradas.
+     * @param f1 Fila de la primera pieza.
+     * @param c1 Columna de la primera pieza.
+     * @param f2 Fila de la segunda pieza.
+     * @param c2 Columna de la segunda pieza.
+     * @return Diferencia de fitness (positiva si mejora).
      */
-    public Pieza[][] getGenes() {
-        return genes;
+    public int deltaIntercambio(int f1, int c1, int f2, int c2) {
+        if (f1 == f2 && c1 == c2) {
+            return 0;
+        }
+        int antes = coincidenciasAfectadas(f1, c1, f2, c2);
+        intercambiar(f1, c1, f2, c2);
+        int despues = coincidenciasAfectadas(f1, c1, f2, c2);
+        intercambiar(f1, c1, f2, c2);
+        return despues - antes;
     }
 
     /**
-     * Imprime el cromosoma en formato de tablero.
+     * Intercambia dos piezas y actualiza el fitness con la diferencia ya calculada.
+     * @param f1 Fila de la primera pieza.
+     * @param c1 Columna de la primera pieza.
+     * @param f2 Fila de la segunda pieza.
+     * @param c2 Columna de la segunda pieza.
+     * @param delta Diferencia obtenida con deltaIntercambio para las mismas posiciones.
      */
-    public void imprimir() {
-        for (int i = 0; i < tamaño; i++) {
-            for (int linea = 0; linea < 3; linea++) {
-                for (int j = 0; j < tamaño; j++) {
-                    System.out.print(genes[i][j].visualizacionLineas()[linea] + " ");
-                }
-                System.out.println();
+    public void aplicarIntercambio(int f1, int c1, int f2, int c2, int delta) {
+        if (hashCalculado) {
+            // Quitar las claves de las piezas en su posición actual y agregar las nuevas
+            int pos1 = f1 * tamaño + c1;
+            int pos2 = f2 * tamaño + c2;
+            hash ^= claveZobrist(pos1, ids[pos1]) ^ claveZobrist(pos2, ids[pos2])
+                  ^ claveZobrist(pos1, ids[pos2]) ^ claveZobrist(pos2, ids[pos1]);
+        }
+        intercambiar(f1, c1, f2, c2);
+        if (fitnessCalculado) {
+            fitness += delta;
+        }
+    }
+
+    /**
+     * Obtiene el hash de la configuración del cromosoma.
+     * Dos cromosomas con las mismas piezas (por valor de sus lados) en las mismas
+     * posiciones tienen el mismo hash; si los hash coinciden se debe confirmar comparando.
+     * @return Hash de la configuración.
+     */
+    public long getHash() {
+        if (!hashCalculado) {
+            hash = 0;
+            for (int pos = 0; pos < ids.length; pos++) {
+                hash ^= claveZobrist(pos, ids[pos]);
             }
-            System.out.println();
+            hashCalculado = true;
         }
-        System.out.println("Fitness: " + fitness);
+        return hash;
+    }
+
+    /**
+     * Calcula la clave Zobrist de una pieza en una celda.
+     * En lugar de una tabla de claves aleatorias (celdas x piezas) se mezclan los valores
+     * con la función de SplitMix64, lo que da claves equivalentes sin ocupar memoria.
+     * @param celda Celda (fila * tamaño + columna).
+     * @param id Id de la pieza colocada en la celda.
+     * @return Clave de 64 bits.
+     */
+    private long claveZobrist(int celda, int id) {
+        long z = ((long) almacen.getArriba(id) << 48) ^ ((long) almacen.getDerecha(id) << 32)
+               ^ ((long) almacen.getAbajo(id) << 16) ^ almacen.getIzquierda(id);
+        z = z * 0x9E3779B97F4A7C15L + celda;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Intercambia los ids de dos posiciones sin actualizar el fitness.
+     */
+    private void intercambiar(int f1, int c1, int f2, int c2) {
+        int pos1 = f1 * tamaño + c1;
+        int pos2 = f2 * tamaño + c2;
+        int tempId = ids[pos1];
+        ids[pos1] = ids[pos2];
+        ids[pos2] = tempId;
+    }
+
+    /**
+     * Cuenta los lados que coinciden alrededor de dos posiciones.
+     * Si las posiciones son vecinas, el lado que comparten se cuenta una sola vez.
+     */
+    private int coincidenciasAfectadas(int f1, int c1, int f2, int c2) {
+        int total = coincidenciasAlrededor(f1, c1) + coincidenciasAlrededor(f2, c2);
+        if (f1 == f2 && Math.abs(c1 - c2) == 1) {
+            int c = Math.min(c1, c2);
+            total -= almacen.getDerecha(getId(f1, c)) == almacen.getIzquierda(getId(f1, c + 1)) ? 1 : 0;
+        } else if (c1 == c2 && Math.abs(f1 - f2) == 1) {
+            int f = Math.min(f1, f2);
+            total -= almacen.getAbajo(getId(f, c1)) == almacen.getArriba(getId(f + 1, c1)) ? 1 : 0;
+        }
+        return total;
+    }
+
+    /**
+     * Cuenta los lados de una pieza que coinciden con sus vecinas (a lo sumo 4).
+     */
+    private int coincidenciasAlrededor(int f, int c) {
+        int id = getId(f, c);
+        int total = 0;
+        if (f > 0 && almacen.getAbajo(getId(f - 1, c)) == almacen.getArriba(id)) {
+            total++;
+        }
+        if (f < tamaño - 1 && almacen.getAbajo(id) == almacen.getArriba(getId(f + 1, c))) {
+            total++;
+        }
+        if (c > 0 && almacen.getDerecha(getId(f, c - 1)) == almacen.getIzquierda(id)) {
+            total++;
+        }
+        if (c < tamaño - 1 && almacen.getDerecha(id) == almacen.getIzquierda(getId(f, c + 1))) {
+            total++;
+        }
+        return total;
+    }
+
+    /**
+     * Obtiene el id de la pieza de una celda.
+     * @param fila Fila de la celda.
+     * @param columna Columna de la celda.
+     * @return Id de la pieza.
+     */
+    public int getId(int fila, int columna) {
+        return ids[fila * tamaño + columna];
+    }
+
+    /**
+     * Obtiene los ids de las piezas por celda (fila * tamaño + columna).
+     * @return Arreglo de ids.
+     */
+    public int[] getIds() {
+        return ids;
+    }
+
+    /**
+     * Arma la matriz de piezas del cromosoma para dibujarlo.
+     * @return Matriz con las piezas de la lista base.
+     */
+    public Pieza[][] aMatriz() {
+        Pieza[][] matriz = new Pieza[tamaño][tamaño];
+        for (int pos = 0; pos < ids.length; pos++) {
+            matriz[pos / tamaño][pos % tamaño] = almacen.getPieza(ids[pos]);
+        }
+        return matriz;
+    }
+
+    /**
+     * Convierte el cromosoma en un Tablero (sin mediciones) para el resultado de la ejecución.
+     * @return Tablero con las piezas del cromosoma.
+     */
+    public Tablero aTablero() {
+        Tablero tablero = new Tablero(tamaño, MetricasNulas.INSTANCIA);
+        for (int pos = 0; pos < ids.length; pos++) {
+            tablero.colocarPieza(pos / tamaño, pos % tamaño, almacen.getPieza(ids[pos]));
+        }
+        return tablero;
+    }
+
+    /**
+     * Imprime el cromosoma en formato de tablero.
+     */
+    public void imprimir() {
+        RenderizadorTablero.delHilo().imprimir(aMatriz(), false, System.out);
+        System.out.println("Fitness: " + getFitness());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,313 @@
+import java.util.ArrayList;
+
+/**
+ * Clase auxiliar que mantiene el dominio (tipos de pieza candidatos) de cada celda vacía del tablero
+ * para la heurística MRV con verificación hacia adelante (forward checking).
+ *
+ * Al colocar una pieza solo se filtran los dominios de las celdas vecinas, y cada cambio
+ * se guarda en un rastro (trail) que permite deshacerlo al retroceder.
+ * Las celdas restringidas se organizan en una cola por cubetas según el tamaño de su dominio,
+ * de modo que la celda más restringida se obtiene sin recorrer todo el tablero.
+ *
+ * Los dominios contienen tipos de pieza (TiposPiezas), no piezas: las copias de una pieza repetida
+ * son una sola candidata. También cuenta las copias sin usar de cada tipo en la búsqueda.
+ *
+ * Una celda sin vecinas colocadas se considera libre: su dominio son todos los tipos.
+ * Los tipos sin copias se eliminan de un dominio cuando este se vuelve a filtrar, por lo que
+ * el tamaño de un dominio es una cota superior de las opciones reales.
+ *
+ * @author Melany Jirón Díaz
+ * @version 1.0
+ */
+public class DominiosCeldas {
+
+    // Tamaño de dominio que indica una celda sin restricciones
+    private static final int LIBRE = -1;
+    private static final int NINGUNA = -1;
+
+    private ArrayList<Pieza> piezas;
+    private IndicePiezas indice;
+    private Metricas metricas;
+    private int tamaño;
+    private int celdasVacias;
+
+    // Tipo colocado en cada celda, o NINGUNA, y copias sin usar de cada tipo
+    private int[] ocupada;
+    private int[] restantes;
+
+    // Dominio de cada celda: los primeros tamañoDominio[celda] tipos son los candidatos
+    private int[][] dominio;
+    private int[] tamañoDominio;
+
+    // Rastro de cambios: celda modificada y tamaño previo de su dominio
+    private int[] rastroCelda;
+    private int[] rastroTamaño;
+    private int topeRastro;
+
+    // Por cada pieza colocada: celda y posición del rastro antes de colocarla
+    private int[] celdaColocada;
+    private int[] marcaRastro;
+    private int profundidad;
+
+    // Cola por cubetas: listas doblemente enlazadas de celdas según el tamaño de su dominio
+    private int[] cabeza;
+    private int[] siguiente;
+    private int[] anterior;
+    private int minimo;
+
+    /**
+     * Constructor que inicializa los dominios con todas las celdas libres.
+     * @param tipos Tipos de las piezas disponibles.
+     * @param indice Índice de los tipos (TiposPiezas.getRepresentantes()) por valor de cada lado.
+     * @param metricas Métricas donde se registran las mediciones.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     */
+    public DominiosCeldas(TiposPiezas tipos, IndicePiezas indice, Metricas metricas, int tamaño) {
+        this.piezas = tipos.getRepresentantes();
+        this.indice = indice;
+        this.metricas = metricas;
+        this.tamaño = tamaño;
+
+        int celdas = tamaño * tamaño;
+        this.celdasVacias = celdas;
+        this.ocupada = new int[celdas];
+        this.restantes = tipos.crearRestantes();
+        this.dominio = new int[celdas][];
+        this.tamañoDominio = new int[celdas];
+        for (int celda = 0; celda < celdas; celda++) {
+            ocupada[celda] = NINGUNA;
+            tamañoDominio[celda] = LIBRE;
+        }
+
+        // Cada colocación modifica a lo sumo 4 vecinas
+        this.rastroCelda = new int[celdas * 4];
+        this.rastroTamaño = new int[celdas * 4];
+        this.topeRastro = 0;
+        this.celdaColocada = new int[celdas];
+        this.marcaRastro = new int[celdas];
+        this.profundidad = 0;
+
+        this.cabeza = new int[piezas.size() + 1];
+        this.siguiente = new int[celdas];
+        this.anterior = new int[celdas];
+        for (int i = 0; i < cabeza.length; i++) {
+            cabeza[i] = NINGUNA;
+        }
+        this.minimo = 0;
+    }
+
+    /**
+     * Registra la colocación de una copia de un tipo, la descuenta de las copias sin usar
+     * y filtra los dominios de las celdas vecinas.
+     * @param celda Celda donde se colocó la pieza (fila * tamaño + columna).
+     * @param id Tipo de la pieza colocada.
+     */
+    public void colocar(int celda, int id) {
+        celdaColocada[profundidad] = celda;
+        marcaRastro[profundidad] = topeRastro;
+        profundidad++;
+
+        if (tamañoDominio[celda] != LIBRE) {
+            quitarDeCola(celda);
+        }
+        ocupada[celda] = id;
+        restantes[id]--;
+        metricas.incrementarAsignaciones();
+        celdasVacias--;
+
+        // Cada vecina vacía debe coincidir con el lado correspondiente de la pieza
+        Pieza pieza = piezas.get(id);
+        int fila = celda / tamaño;
+        int columna = celda % tamaño;
+        if (fila > 0) {
+            restringir(celda - tamaño, IndicePiezas.ABAJO, pieza.getArriba());
+        }
+        if (fila < tamaño - 1) {
+            restringir(celda + tamaño, IndicePiezas.ARRIBA, pieza.getAbajo());
+        }
+        if (columna > 0) {
+            restringir(celda - 1, IndicePiezas.DERECHA, pieza.getIzquierda());
+        }
+        if (columna < tamaño - 1) {
+            restringir(celda + 1, IndicePiezas.IZQUIERDA, pieza.getDerecha());
+        }
+    }
+
+    /**
+     * Deshace la última colocación restaurando los dominios de sus vecinas desde el rastro.
+     */
+    public void deshacer() {
+        profundidad--;
+        int marca = marcaRastro[profundidad];
+
+        while (topeRastro > marca) {
+            topeRastro--;
+            int vecina = rastroCelda[topeRastro];
+            quitarDeCola(vecina);
+            tamañoDominio[vecina] = rastroTamaño[topeRastro];
+            if (tamañoDominio[vecina] != LIBRE) {
+                agregarACola(vecina);
+            }
+        }
+
+        int celda = celdaColocada[profundidad];
+        restantes[ocupada[celda]]++;
+        metricas.incrementarAsignaciones();
+        ocupada[celda] = NINGUNA;
+        celdasVacias++;
+        if (tamañoDominio[celda] != LIBRE) {
+            agregarACola(celda);
+        }
+    }
+
+    /**
+     * Filtra el dominio de una celda vecina dejando solo los tipos con copias sin usar
+     * cuyo lado indicado tiene el valor requerido.
+     * @param vecina Celda a restringir.
+     * @param lado Lado de la vecina que debe coincidir.
+     * @param valor Valor requerido en ese lado.
+     */
+    private void restringir(int vecina, int lado, int valor) {
+        if (ocupada[vecina] != NINGUNA) {
+            return;
+        }
+        int anteriorTamaño = tamañoDominio[vecina];
+        rastroCelda[topeRastro] = vecina;
+        rastroTamaño[topeRastro] = anteriorTamaño;
+        topeRastro++;
+
+        int nuevoTamaño = 0;
+        if (anteriorTamaño == LIBRE) {
+            // Primera restricción: el dominio se construye desde el índice
+            int[] candidatos = indice.porLado(lado, valor);
+            int[] destino = dominio[vecina];
+            if (destino == null || destino.length < candidatos.length) {
+                destino = new int[candidatos.length];
+                dominio[vecina] = destino;
+            }
+            for (int id : candidatos) {
+                metricas.incrementarComparaciones();
+                if (restantes[id] > 0) {
+                    destino[nuevoTamaño++] = id;
+                }
+            }
+        } else {
+            // Particionar en el lugar: las que siguen siendo válidas quedan al inicio
+            quitarDeCola(vecina);
+            int[] actual = dominio[vecina];
+            for (int i = 0; i < anteriorTamaño; i++) {
+                int id = actual[i];
+                Pieza candidata = piezas.get(id);
+                metricas.incrementarComparaciones();
+                if (restantes[id] > 0 && IndicePiezas.valorLado(candidata, lado) == valor) {
+                    actual[i] = actual[nuevoTamaño];
+                    actual[nuevoTamaño++] = id;
+                }
+            }
+        }
+        tamañoDominio[vecina] = nuevoTamaño;
+        metricas.incrementarAsignaciones();
+        agregarACola(vecina);
+    }
+
+    /**
+     * Busca la celda vacía con el dominio más pequeño.
+     * Si ninguna celda vacía está restringida retorna la primera celda vacía.
+     * @return Celda más restringida, o -1 si el tablero está lleno.
+     */
+    public int buscarMasRestringida() {
+        if (celdasVacias == 0) {
+            return NINGUNA;
+        }
+        for (int t = minimo; t < cabeza.length; t++) {
+            if (cabeza[t] != NINGUNA) {
+                minimo = t;
+                return cabeza[t];
+            }
+        }
+        minimo = cabeza.length;
+        for (int celda = 0; celda < ocupada.length; celda++) {
+            if (ocupada[celda] == NINGUNA) {
+                return celda;
+            }
+        }
+        return NINGUNA;
+    }
+
+    /**
+     * Obtiene el dominio de una celda. Solo los primeros getTamañoDominio(celda) tipos son válidos.
+     * El arreglo es interno y no debe modificarse.
+     * @param celda Celda a consultar.
+     * @return Arreglo con los tipos candidatos.
+     */
+    public int[] getDominio(int celda) {
+        return tamañoDominio[celda] == LIBRE ? indice.todas() : dominio[celda];
+    }
+
+    /**
+     * Obtiene el tamaño del dominio de una celda.
+     * @param celda Celda a consultar.
+     * @return Cantidad de tipos candidatos (todos los tipos si la celda está libre).
+     */
+    public int getTamañoDominio(int celda) {
+        return tamañoDominio[celda] == LIBRE ? indice.todas().length : tamañoDominio[celda];
+    }
+
+    /**
+     * Indica si ya están colocadas todas las copias de un tipo.
+     * @param id Tipo de pieza.
+     * @return true si no quedan copias sin usar.
+     */
+    public boolean estaUsada(int id) {
+        return restantes[id] == 0;
+    }
+
+    /**
+     * Obtiene la cantidad de copias sin usar de un tipo.
+     * @param id Tipo de pieza.
+     * @return Copias sin usar.
+     */
+    public int getRestantes(int id) {
+        return restantes[id];
+    }
+
+    /**
+     * Obtiene la cantidad de celdas vacías.
+     * @return Celdas sin pieza.
+     */
+    public int getCeldasVacias() {
+        return celdasVacias;
+    }
+
+    /**
+     * Agrega una celda a la cubeta correspondiente al tamaño de su dominio.
+     * @param celda Celda a agregar.
+     */
+    private void agregarACola(int celda) {
+        int t = tamañoDominio[celda];
+        anterior[celda] = NINGUNA;
+        siguiente[celda] = cabeza[t];
+        if (cabeza[t] != NINGUNA) {
+            anterior[cabeza[t]] = celda;
+        }
+        cabeza[t] = celda;
+        if (t < minimo) {
+            minimo = t;
+        }
+    }
+
+    /**
+     * Quita una celda de la cubeta en la que se encuentra.
+     * @param celda Celda a quitar.
+     */
+    private void quitarDeCola(int celda) {
+        if (anterior[celda] != NINGUNA) {
+            siguiente[anterior[celda]] = siguiente[celda];
+        } else {
+            cabeza[tamañoDominio[celda]] = siguiente[celda];
+        }
+        if (siguiente[celda] != NINGUNA) {
+            anterior[siguiente[celda]] = anterior[celda];
+        }
+    }
+}
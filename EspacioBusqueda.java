@@ -0,0 +1,94 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Interfaz que describe un problema de colocación para el motor de backtracking iterativo
+ * (BusquedaIterativa). Cada nivel de la búsqueda elige una celda y prueba en ella las piezas
+ * de su dominio; el motor guarda en su pila solo la celda, el dominio y el cursor del siguiente
+ * candidato, y llama a colocar y quitar en el mismo orden que una búsqueda recursiva.
+ * Las mediciones (comparaciones, alternativas, podas) las registra cada implementación.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public interface EspacioBusqueda {
+
+    /**
+     * Indica si el tablero quedó completo.
+     * @param profundidad Piezas colocadas por la búsqueda.
+     * @return true si es una solución.
+     */
+    boolean completo(int profundidad);
+
+    /**
+     * Se llama al entrar en cada nodo que no es solución (por ejemplo, para guardar el
+     * tablero parcial más profundo).
+     * @param profundidad Piezas colocadas por la búsqueda.
+     */
+    void visitar(int profundidad);
+
+    /**
+     * Elige la celda que se va a llenar en este nivel.
+     * @param profundidad Piezas colocadas por la búsqueda.
+     * @return Celda (fila * tamaño + columna), o -1 si el nodo no tiene salida (poda).
+     */
+    int elegirCelda(int profundidad);
+
+    /**
+     * Al reanudar, vuelve a elegir en este nivel la celda que eligió la búsqueda guardada.
+     * Por defecto llama a elegirCelda(), lo que basta si la elección depende solo de las piezas
+     * colocadas; si también depende de las ramas ya recorridas (por ejemplo, al desempatar),
+     * se sobrescribe para aceptar la celda guardada cuando es una elección válida del nivel.
+     * @param profundidad Piezas colocadas por la búsqueda.
+     * @param celda Celda que había elegido la búsqueda guardada.
+     * @return true si la celda corresponde a este nivel.
+     */
+    default boolean reelegirCelda(int profundidad, int celda) {
+        return elegirCelda(profundidad) == celda;
+    }
+
+    /**
+     * Obtiene las piezas candidatas de la celda elegida. Solo se usan los primeros
+     * getTamañoDominio(celda) ids, y el arreglo no debe cambiar mientras la celda esté ocupada.
+     * @param celda Celda elegida.
+     * @return Ids candidatos.
+     */
+    int[] getDominio(int celda);
+
+    /**
+     * Obtiene la cantidad de candidatas de la celda elegida.
+     * @param celda Celda elegida.
+     * @return Cantidad de ids válidos en getDominio(celda).
+     */
+    int getTamañoDominio(int celda);
+
+    /**
+     * Indica si una pieza ya está colocada.
+     * @param id Id de la pieza.
+     * @return true si está usada.
+     */
+    boolean estaUsada(int id);
+
+    /**
+     * Coloca una pieza candidata en la celda.
+     * @param celda Celda elegida.
+     * @param id Id de la pieza.
+     */
+    void colocar(int celda, int id);
+
+    /**
+     * Quita la pieza de la celda (la última colocada).
+     * @param celda Celda de la pieza a quitar.
+     */
+    void quitar(int celda);
+
+    /**
+     * Inicia un estado para un punto de control: escribe el encabezado (PuntoControl.iniciarEstado)
+     * con los contadores y el tiempo; el motor agrega después su pila. Todo problema debe poder
+     * guardarse, para que un punto de control no falle a mitad de la búsqueda.
+     * @param bytes Destino del estado.
+     * @return Flujo donde el motor escribe la pila.
+     * @throws IOException No ocurre al escribir en memoria.
+     */
+    DataOutputStream iniciarEstado(ByteArrayOutputStream bytes) throws IOException;
+}
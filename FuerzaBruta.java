@@ -1,19 +1,53 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 /* 
  * Clase que implementa el algoritmo de fuerza bruta para resolver un problema de colocación de piezas en un tablero.
  * Utiliza clases auxiliares:
  * - Tablero: Representa el tablero y maneja la colocación de piezas.
  * - Pieza: Representa una pieza con sus características.
+ * - TiposPiezas: Agrupa las piezas idénticas en tipos con su cantidad.
+ * - IndicePiezas: Obtiene los tipos candidatos según las restricciones de arriba e izquierda.
+ * - BusquedaIterativa: Motor de backtracking con pila explícita (sin recursión).
+ * La búsqueda coloca tipos de pieza: las copias de una pieza repetida se prueban una sola vez
+ * en cada celda, y al colocar un tipo se usa su siguiente copia sin usar. Las copias sin usar de
+ * cada tipo se cuentan en un arreglo propio de la búsqueda.
+ * Implementa Resolvedor: si se agota el presupuesto devuelve el tablero parcial más profundo
+ * que alcanzó la búsqueda. Implementa Reanudable: con un PuntoControl guarda la pila de la
+ * búsqueda y puede continuarla desde un archivo.
  * 
  * @autor Melany Jirón Díaz
  * @version 1.0
  */
-public class FuerzaBruta {
+public class FuerzaBruta implements Reanudable {
     private ArrayList<Pieza> piezas;
     private Tablero tablero;
+    private Metricas metricas;
+    private IndicePiezas indice;
+    private TiposPiezas tipos;
+    private int[] restantes;
+    private BusquedaIterativa busqueda;
     private int tamaño;
 
     private boolean solucionEncontrada;
+    private ResultadoEjecucion resultado;
+
+    // Tablero parcial más profundo alcanzado (mejor resultado si se agota el presupuesto)
+    private Tablero mejorParcial;
+    private int mejorProfundidad;
+
+    // Presupuesto de la búsqueda y si se imprime el reporte al terminar
+    private Presupuesto presupuesto;
+    private boolean mostrarResultados;
+
+    // Problema de la búsqueda en curso o reanudada, inicio de la ejecución (descontando el tiempo
+    // de las ejecuciones anteriores) y puntos de control
+    private Espacio espacio;
+    private long inicio;
+    private long nanosPrevios;
+    private PuntoControl puntoControl;
 
     /**
      * Constructor de la clase FuerzaBruta.
@@ -22,10 +56,50 @@ public class FuerzaBruta {
      * Inicialización de las variables y el tablero.
      */
     public FuerzaBruta(ArrayList<Pieza> piezas, int tamaño) {
+        this(piezas, tamaño, new MetricasSimples());
+    }
+
+    /**
+     * Constructor con las métricas a utilizar.
+     * @param piezas Lista de piezas a colocar en el tablero.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param metricas Métricas donde se registran las mediciones (MetricasNulas para no medir).
+     */
+    public FuerzaBruta(ArrayList<Pieza> piezas, int tamaño, Metricas metricas) {
         this.piezas = piezas;
         this.tamaño = tamaño;
-        this.tablero = new Tablero(tamaño);
+        this.metricas = metricas;
+        this.tablero = new Tablero(tamaño, metricas);
+        this.tipos = new TiposPiezas(piezas);
+        this.indice = new IndicePiezas(tipos.getRepresentantes());
+        this.restantes = tipos.crearRestantes();
+        this.busqueda = new BusquedaIterativa(tamaño * tamaño);
         this.solucionEncontrada = false;
+        this.presupuesto = Presupuesto.sinLimite();
+        this.mostrarResultados = true;
+    }
+
+    /**
+     * Activa o desactiva la impresión del reporte y del tablero al terminar.
+     * @param mostrarResultados true para imprimir.
+     */
+    @Override
+    public void setMostrarResultados(boolean mostrarResultados) {
+        this.mostrarResultados = mostrarResultados;
+    }
+
+    @Override
+    public void setPuntoControl(PuntoControl puntoControl) {
+        this.puntoControl = puntoControl;
+    }
+
+    @Override
+    public void reanudar(Path archivo) throws IOException {
+        PuntoControl.Estado estado = PuntoControl.leer(archivo, PuntoControl.FUERZA_BRUTA, tamaño, piezas);
+        espacio = new Espacio();
+        busqueda.reanudar(espacio, estado.getDatos());
+        estado.restaurarMetricas(metricas);
+        nanosPrevios = estado.getNanos();
     }
 
     /**
@@ -34,65 +108,165 @@ public class FuerzaBruta {
      * @return true si se encuentra una solución, false en caso contrario.
      */
     public boolean resolver() {
-        Runtime runtime= Runtime.getRuntime();
-        runtime.gc();
-        long MemoriaInicial = runtime.totalMemory() - runtime.freeMemory();
+        return resolver(Presupuesto.sinLimite()).isSolucionEncontrada();
+    }
 
-        long inicio = System.nanoTime();
+    /**
+     * Resuelve con fuerza bruta sin exceder el presupuesto.
+     * @param presupuesto Tiempo y nodos máximos, y cancelación.
+     * @return Resultado con la solución o el tablero parcial más profundo.
+     */
+    @Override
+    public ResultadoEjecucion resolver(Presupuesto presupuesto) {
+        this.presupuesto = presupuesto;
+        this.mejorParcial = tablero.copiar();
+        this.mejorProfundidad = 0;
 
-        boolean resultado = backtracking(0);
+        MedicionMemoria medicion = MedicionMemoria.iniciar(false, presupuesto.isMedirMemoria());
+
+        long inicio = System.nanoTime() - nanosPrevios;
+        this.inicio = inicio;
+        this.nanosPrevios = 0;
+        presupuesto.iniciar();
+        if (espacio == null) {
+            espacio = new Espacio();
+        }
+
+        busqueda.setPuntoControl(puntoControl);
+        boolean resultado = busqueda.buscar(espacio, presupuesto);
+        espacio = null;
 
         long fin = System.nanoTime();
-        
-        long MemoriaFinal = runtime.totalMemory() - runtime.freeMemory();
-        long memoriaUsada = MemoriaFinal - MemoriaInicial;
-        
-        double tiempo = (fin - inicio) / 1_000_000_000.0; // Tiempo en segundos
+        medicion.detener();
+
+        Tablero mejor = resultado ? tablero : mejorParcial;
+        this.resultado = new ResultadoEjecucion("Fuerza Bruta", resultado, presupuesto.isAgotado(), mejor,
+                                                mejor.contarCoincidencias(), 2 * tamaño * (tamaño - 1),
+                                                fin - inicio, medicion, metricas);
+        if (!mostrarResultados) {
+            return this.resultado;
+        }
 
         System.out.println("====== Fuerza Bruta ======");
         System.out.println("Solución encontrada: " + resultado);
-        System.out.println("Duración: " + String.format("%.3f s", tiempo));
-        System.out.println("Memoria usada: " + (memoriaUsada / 1024) + " KB");
-        System.out.println("Alternativas exploradas: " + tablero.getAlternativas());
-        System.out.println("Comparaciones: " + tablero.getComparaciones());
-        System.out.println("Asignaciones: " + tablero.getAsignaciones());
-        System.out.println("Podas realizadas: " + tablero.getPodas());
-        System.out.println("Instrucciones ejecutadas: " + tablero.getInstrucciones());
+        if (presupuesto.isAgotado()) {
+            System.out.println("Búsqueda detenida: " + presupuesto.getMotivo() + ".");
+        }
+        System.out.println("Duración: " + String.format("%.3f s", this.resultado.getTiempoSegundos()));
+        this.resultado.imprimirMemoria();
+        System.out.println("Alternativas exploradas: " + metricas.getAlternativas());
+        System.out.println("Comparaciones: " + metricas.getComparaciones());
+        System.out.println("Asignaciones: " + metricas.getAsignaciones());
+        System.out.println("Podas realizadas: " + metricas.getPodas());
+        System.out.println("Instrucciones ejecutadas: " + metricas.getInstrucciones());
         System.out.println("=========================");
 
         if (resultado) {
             System.out.println("Tablero solución:");
             tablero.imprimirTablero();
+        } else if (presupuesto.isAgotado()) {
+            System.out.println("Mejor tablero parcial (" + mejorProfundidad + " piezas):");
+            mejorParcial.imprimirTablero();
         }
 
+        return this.resultado;
+    }
+
+    /**
+     * Obtiene el resultado estructurado de la última ejecución de resolver().
+     * @return Resultado, o null si aún no se ha resuelto.
+     */
+    public ResultadoEjecucion getResultado() {
         return resultado;
     }
 
     /**
-     * Método recursivo que implementa el algoritmo de backtracking para colocar las piezas en el tablero.
-     * @param pos Posición actual en el tablero (de 0 a tamaño*tamaño - 1).
-     * @return true si se encuentra una solución, false en caso contrario.
+     * Problema de colocación de la fuerza bruta para el motor iterativo (BusquedaIterativa).
+     * Las celdas se llenan en orden (fila por fila) y solo se prueban los tipos que el índice
+     * reporta como compatibles con las vecinas de arriba e izquierda y que tienen copias sin usar.
      */
-    private boolean backtracking(int pos) {
-        // Caso base: si se han colocado todas las piezas
-        if (pos == tamaño * tamaño) {
-            solucionEncontrada = true;
-            return true;
+    private class Espacio implements EspacioBusqueda {
+
+        // Tipos candidatos de la celda elegida en el nivel actual y tipo colocado en cada celda
+        private int[] candidatas;
+        private final int[] colocadas = new int[tamaño * tamaño];
+
+        @Override
+        public boolean completo(int pos) {
+            // Caso base: si se han colocado todas las piezas
+            if (pos == tamaño * tamaño) {
+                solucionEncontrada = true;
+                return true;
+            }
+            return false;
         }
-        int fila = pos / tamaño;
-        int columna = pos % tamaño;
-        for (Pieza pieza : piezas) {
-            if (!pieza.isUsada()) {
-                tablero.incrementarAlternativas();
-                if (tablero.encaja(fila, columna, pieza)) { // Poda 
-                    tablero.colocarPieza(fila, columna, pieza);
-                    if (backtracking(pos + 1)) {
-                        return true;
-                    }
-                    tablero.quitarPieza(fila, columna);
-                }
+
+        @Override
+        public void visitar(int pos) {
+            // Guardar el tablero parcial más profundo alcanzado
+            if (pos > mejorProfundidad) {
+                mejorProfundidad = pos;
+                mejorParcial = tablero.copiar();
+            }
+        }
+
+        @Override
+        public int elegirCelda(int pos) {
+            int fila = pos / tamaño;
+            int columna = pos % tamaño;
+
+            // Restricciones de las piezas vecinas (primera fila y primera columna no tienen)
+            int arriba = IndicePiezas.SIN_RESTRICCION;
+            int izquierda = IndicePiezas.SIN_RESTRICCION;
+            metricas.incrementarComparaciones();
+            if (fila > 0) {
+                arriba = tablero.getPieza(fila - 1, columna).getAbajo();
+            }
+            metricas.incrementarComparaciones();
+            if (columna > 0) {
+                izquierda = tablero.getPieza(fila, columna - 1).getDerecha();
             }
+
+            // Todas las candidatas encajan por construcción del índice (Poda)
+            candidatas = indice.candidatos(arriba, izquierda);
+            return pos;
+        }
+
+        @Override
+        public int[] getDominio(int celda) {
+            return candidatas;
+        }
+
+        @Override
+        public int getTamañoDominio(int celda) {
+            return candidatas.length;
+        }
+
+        @Override
+        public boolean estaUsada(int tipo) {
+            return restantes[tipo] == 0;
+        }
+
+        @Override
+        public void colocar(int celda, int tipo) {
+            metricas.incrementarAlternativas();
+            tablero.colocarPieza(celda / tamaño, celda % tamaño, tipos.getCopia(tipo, restantes[tipo]));
+            restantes[tipo]--;
+            colocadas[celda] = tipo;
+            metricas.incrementarAsignaciones();
+        }
+
+        @Override
+        public void quitar(int celda) {
+            tablero.quitarPieza(celda / tamaño, celda % tamaño);
+            restantes[colocadas[celda]]++;
+            metricas.incrementarAsignaciones();
+        }
+
+        @Override
+        public DataOutputStream iniciarEstado(ByteArrayOutputStream bytes) throws IOException {
+            return PuntoControl.iniciarEstado(bytes, PuntoControl.FUERZA_BRUTA, tamaño, piezas, metricas,
+                                              System.nanoTime() - inicio);
         }
-        return false;
     }
-}
\ No newline at end of file
+}
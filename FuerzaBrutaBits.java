@@ -0,0 +1,325 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/*
+ * Clase que implementa la fuerza bruta con máscaras de bits para tableros de hasta 8x8 (64 piezas).
+ * Recorre el mismo árbol que FuerzaBruta (celdas por filas, tipos de pieza en orden), pero con
+ * hasta 64 tipos cada conjunto de tipos cabe en un long:
+ * - mascaraArriba[v] y mascaraIzquierda[v]: tipos con el valor v en ese lado.
+ * - disponibles: tipos con copias sin usar.
+ * Las candidatas de una celda son mascaraArriba[abajo de la vecina de arriba] &
+ * mascaraIzquierda[derecha de la vecina izquierda] & disponibles, y se recorren con
+ * Long.numberOfTrailingZeros. La pila guarda la máscara de candidatas pendientes de cada nivel,
+ * por lo que la búsqueda no crea objetos ni recorre listas de piezas.
+ * Utiliza clases auxiliares:
+ * - TiposPiezas: Agrupa las piezas idénticas en tipos con su cantidad.
+ * - Tablero: Se usa únicamente para el resultado y para mostrar la solución encontrada.
+ *
+ * Los contadores son las operaciones de esta búsqueda, no las de FuerzaBruta:
+ * - Comparaciones: cada intersección con la máscara de una vecina y cada revisión de las
+ *   candidatas pendientes de un nivel.
+ * - Asignaciones: cada escritura de la pila (candidatas pendientes y tipo de la celda), de las
+ *   copias sin usar y de la máscara de disponibles.
+ * Se cuentan en variables locales de la búsqueda y se suman a las métricas al terminar.
+ * Implementa Resolvedor: si se agota el presupuesto devuelve el tablero parcial más profundo
+ * que alcanzó la búsqueda.
+ *
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class FuerzaBrutaBits implements Resolvedor {
+
+    // Máximo de piezas: un bit por tipo en un long
+    public static final int MAXIMO_PIEZAS = Long.SIZE;
+
+    private TiposPiezas tipos;
+    private int tamaño;
+
+    // Tipos con cada valor arriba y a la izquierda, y lados de abajo y derecha de cada tipo
+    private long[] mascaraArriba;
+    private long[] mascaraIzquierda;
+    private int[] abajo;
+    private int[] derecha;
+
+    // Estado de la búsqueda: copias sin usar, tipos con copias, candidatas pendientes y tipo de cada celda
+    private int[] restantes;
+    private long disponibles;
+    private long[] pendientes;
+    private int[] colocadas;
+
+    // Tipos del tablero parcial más profundo alcanzado (mejor resultado si se agota el presupuesto)
+    private int[] mejorParcial;
+    private int mejorProfundidad;
+
+    // Nodos visitados, intersecciones de máscaras, revisiones de candidatas pendientes,
+    // piezas colocadas y quitadas y cambios de la máscara de disponibles en la ejecución
+    private long nodos;
+    private long intersecciones;
+    private long revisiones;
+    private long colocaciones;
+    private long retiros;
+    private long cambiosDisponibles;
+
+    private Metricas metricas;
+    private ResultadoEjecucion resultado;
+
+    // Presupuesto de la búsqueda y si se imprime el reporte al terminar
+    private Presupuesto presupuesto;
+    private boolean mostrarResultados;
+
+    /**
+     * Constructor de la clase FuerzaBrutaBits.
+     * @param piezas Lista de piezas a colocar en el tablero (como máximo MAXIMO_PIEZAS).
+     * @param tamaño Tamaño del tablero (tamaño x tamaño, como máximo 8x8).
+     */
+    public FuerzaBrutaBits(ArrayList<Pieza> piezas, int tamaño) {
+        this(piezas, tamaño, new MetricasSimples());
+    }
+
+    /**
+     * Constructor con las métricas a utilizar.
+     * @param piezas Lista de piezas a colocar en el tablero (como máximo MAXIMO_PIEZAS).
+     * @param tamaño Tamaño del tablero (tamaño x tamaño, como máximo 8x8).
+     * @param metricas Métricas donde se registran las mediciones (MetricasNulas para no medir).
+     */
+    public FuerzaBrutaBits(ArrayList<Pieza> piezas, int tamaño, Metricas metricas) {
+        if (tamaño * tamaño > MAXIMO_PIEZAS || piezas.size() > MAXIMO_PIEZAS) {
+            throw new IllegalArgumentException("FuerzaBrutaBits admite hasta " + MAXIMO_PIEZAS + " piezas (8x8)");
+        }
+        this.tamaño = tamaño;
+        this.metricas = metricas;
+        this.tipos = new TiposPiezas(piezas);
+        this.pendientes = new long[tamaño * tamaño];
+        this.colocadas = new int[tamaño * tamaño];
+        this.presupuesto = Presupuesto.sinLimite();
+        this.mostrarResultados = true;
+        crearMascaras();
+    }
+
+    /**
+     * Calcula las máscaras de tipos por valor de los lados de arriba e izquierda.
+     */
+    private void crearMascaras() {
+        int valorMaximo = 0;
+        for (Pieza pieza : tipos.getRepresentantes()) {
+            valorMaximo = Math.max(valorMaximo, Math.max(pieza.getArriba(), pieza.getIzquierda()));
+        }
+        int cantidadTipos = tipos.getCantidadTipos();
+        mascaraArriba = new long[valorMaximo + 1];
+        mascaraIzquierda = new long[valorMaximo + 1];
+        abajo = new int[cantidadTipos];
+        derecha = new int[cantidadTipos];
+        for (int tipo = 0; tipo < cantidadTipos; tipo++) {
+            Pieza pieza = tipos.getRepresentantes().get(tipo);
+            mascaraArriba[pieza.getArriba()] |= 1L << tipo;
+            mascaraIzquierda[pieza.getIzquierda()] |= 1L << tipo;
+            abajo[tipo] = pieza.getAbajo();
+            derecha[tipo] = pieza.getDerecha();
+        }
+    }
+
+    /**
+     * Activa o desactiva la impresión del reporte y del tablero al terminar.
+     * @param mostrarResultados true para imprimir.
+     */
+    @Override
+    public void setMostrarResultados(boolean mostrarResultados) {
+        this.mostrarResultados = mostrarResultados;
+    }
+
+    /**
+     * Método que inicia el proceso de resolución.
+     * Mide el tiempo de ejecución y muestra estadísticas al finalizar, las distintas mediciones.
+     * @return true si se encuentra una solución, false en caso contrario.
+     */
+    public boolean resolver() {
+        return resolver(Presupuesto.sinLimite()).isSolucionEncontrada();
+    }
+
+    /**
+     * Resuelve con fuerza bruta sin exceder el presupuesto.
+     * @param presupuesto Tiempo y nodos máximos, y cancelación.
+     * @return Resultado con la solución o el tablero parcial más profundo.
+     */
+    @Override
+    public ResultadoEjecucion resolver(Presupuesto presupuesto) {
+        this.presupuesto = presupuesto;
+        this.restantes = tipos.crearRestantes();
+        this.disponibles = 0;
+        for (int tipo = 0; tipo < restantes.length; tipo++) {
+            disponibles |= 1L << tipo;
+        }
+        this.mejorParcial = new int[0];
+        this.mejorProfundidad = 0;
+        this.nodos = 0;
+        this.intersecciones = 0;
+        this.revisiones = 0;
+        this.colocaciones = 0;
+        this.retiros = 0;
+        this.cambiosDisponibles = 0;
+
+        MedicionMemoria medicion = MedicionMemoria.iniciar(false, presupuesto.isMedirMemoria());
+
+        long inicio = System.nanoTime();
+        presupuesto.iniciar();
+
+        boolean resultado = buscar();
+        // Por nodo se escriben sus candidatas; por pieza colocada, las pendientes, la celda y sus copias
+        metricas.sumarComparaciones(intersecciones + revisiones);
+        metricas.sumarAsignaciones(nodos + 3 * colocaciones + retiros + cambiosDisponibles);
+        metricas.sumarAlternativas(colocaciones);
+
+        long fin = System.nanoTime();
+        medicion.detener();
+
+        Tablero mejor = resultado ? crearTablero(colocadas, colocadas.length) : crearTablero(mejorParcial, mejorProfundidad);
+        this.resultado = new ResultadoEjecucion("Fuerza Bruta (bits)", resultado, presupuesto.isAgotado(), mejor,
+                                                mejor.contarCoincidencias(), 2 * tamaño * (tamaño - 1),
+                                                fin - inicio, medicion, metricas);
+        if (!mostrarResultados) {
+            return this.resultado;
+        }
+
+        System.out.println("====== Fuerza Bruta (bits) ======");
+        System.out.println("Solución encontrada: " + resultado);
+        if (presupuesto.isAgotado()) {
+            System.out.println("Búsqueda detenida: " + presupuesto.getMotivo() + ".");
+        }
+        System.out.println("Duración: " + String.format("%.3f s", this.resultado.getTiempoSegundos()));
+        this.resultado.imprimirMemoria();
+        System.out.println("Alternativas exploradas: " + metricas.getAlternativas());
+        System.out.println("Comparaciones: " + metricas.getComparaciones());
+        System.out.println("Asignaciones: " + metricas.getAsignaciones());
+        System.out.println("Instrucciones ejecutadas: " + metricas.getInstrucciones());
+        System.out.println("=================================");
+
+        if (resultado) {
+            System.out.println("Tablero solución:");
+            mejor.imprimirTablero();
+        } else if (presupuesto.isAgotado()) {
+            System.out.println("Mejor tablero parcial (" + mejorProfundidad + " piezas):");
+            mejor.imprimirTablero();
+        }
+
+        return this.resultado;
+    }
+
+    /**
+     * Backtracking iterativo por filas. Al entrar en una celda calcula sus candidatas; al volver
+     * de una rama las piezas disponibles son las mismas que al entrar, así que la máscara sigue siendo válida.
+     * @return true si encontró solución (las celdas quedan colocadas), false si no existe o se agotó el presupuesto.
+     */
+    private boolean buscar() {
+        int celdas = tamaño * tamaño;
+        int pos = 0;
+
+        while (true) {
+            // Entrar en la celda pos
+            if (presupuesto.agotado()) {
+                return deshacerTodo(pos);
+            }
+            if (pos == celdas) {
+                return true;
+            }
+            if (pos > mejorProfundidad) {
+                mejorProfundidad = pos;
+                mejorParcial = Arrays.copyOf(colocadas, pos);
+            }
+            nodos++;
+
+            // Candidatas: tipos disponibles que encajan con las vecinas de arriba e izquierda (Poda)
+            int columna = pos % tamaño;
+            long candidatas = disponibles;
+            if (pos >= tamaño) {
+                candidatas &= mascara(mascaraArriba, abajo[colocadas[pos - tamaño]]);
+                intersecciones++;
+            }
+            if (columna > 0) {
+                candidatas &= mascara(mascaraIzquierda, derecha[colocadas[pos - 1]]);
+                intersecciones++;
+            }
+            pendientes[pos] = candidatas;
+
+            // Colocar la siguiente candidata, retrocediendo mientras el nivel se quede sin candidatas
+            while (true) {
+                long resto = pendientes[pos];
+                revisiones++;
+                if (resto != 0) {
+                    pendientes[pos] = resto & (resto - 1);
+                    colocar(pos, Long.numberOfTrailingZeros(resto));
+                    pos++;
+                    break;
+                }
+                if (pos == 0) {
+                    return false;
+                }
+                pos--;
+                quitar(pos);
+                if (presupuesto.isAgotado()) {
+                    return deshacerTodo(pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtiene la máscara de un valor, o ninguna pieza si ningún tipo tiene ese valor en el lado.
+     */
+    private static long mascara(long[] mascaras, int valor) {
+        return valor < mascaras.length ? mascaras[valor] : 0;
+    }
+
+    private void colocar(int pos, int tipo) {
+        colocadas[pos] = tipo;
+        if (--restantes[tipo] == 0) {
+            disponibles &= ~(1L << tipo);
+            cambiosDisponibles++;
+        }
+        colocaciones++;
+    }
+
+    private void quitar(int pos) {
+        int tipo = colocadas[pos];
+        if (restantes[tipo]++ == 0) {
+            disponibles |= 1L << tipo;
+            cambiosDisponibles++;
+        }
+        retiros++;
+    }
+
+    /**
+     * Quita las piezas colocadas al detenerse por el presupuesto.
+     * @return false.
+     */
+    private boolean deshacerTodo(int pos) {
+        while (pos > 0) {
+            quitar(--pos);
+        }
+        return false;
+    }
+
+    /**
+     * Construye un tablero (sin mediciones) con los tipos de las primeras celdas; cada tipo usa
+     * sus copias en orden, igual que FuerzaBruta.
+     * @param celdasTipos Tipo colocado en cada celda.
+     * @param cantidad Celdas colocadas.
+     * @return Tablero con las piezas colocadas.
+     */
+    private Tablero crearTablero(int[] celdasTipos, int cantidad) {
+        Tablero tablero = new Tablero(tamaño, MetricasNulas.INSTANCIA);
+        int[] copias = tipos.crearRestantes();
+        for (int pos = 0; pos < cantidad; pos++) {
+            int tipo = celdasTipos[pos];
+            tablero.colocarPieza(pos / tamaño, pos % tamaño, tipos.getCopia(tipo, copias[tipo]--));
+        }
+        return tablero;
+    }
+
+    /**
+     * Obtiene el resultado estructurado de la última ejecución de resolver().
+     * @return Resultado, o null si aún no se ha resuelto.
+     */
+    public ResultadoEjecucion getResultado() {
+        return resultado;
+    }
+}
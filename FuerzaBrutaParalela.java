@@ -0,0 +1,352 @@
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Clase que implementa la versión paralela del algoritmo de fuerza bruta.
+ * Divide el árbol de búsqueda en las primeras posiciones del tablero y reparte
+ * cada rama como una tarea de un ForkJoinPool. Cada tarea trabaja sobre su propio
+ * tablero compacto y su propio conjunto de piezas usadas, de modo que las piezas
+ * compartidas solo se leen.
+ * Todas las tareas se detienen en cuanto alguna encuentra una solución o se agota el
+ * presupuesto; en ese caso se devuelve el tablero parcial más profundo entre todas las tareas.
+ * Utiliza clases auxiliares:
+ * - IndicePiezas: Obtiene las piezas candidatas según las restricciones de arriba e izquierda.
+ * - AlmacenPiezas y TableroCompacto: Lados de las piezas por id y tablero de ids de cada tarea.
+ * - Tablero: Se usa únicamente para el resultado y para mostrar la solución encontrada.
+ *
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class FuerzaBrutaParalela implements Resolvedor {
+
+    private ArrayList<Pieza> piezas;
+    private IndicePiezas indice;
+    private AlmacenPiezas almacen;
+    private int tamaño;
+    private int profundidadDivision;
+    private int hilos;
+
+    // Estado compartido entre tareas
+    private AtomicBoolean solucionEncontrada;
+    private AtomicReference<int[]> solucion;
+
+    // Tablero parcial más profundo entre todas las tareas (protegido por registrarParcial)
+    private int[] mejorParcial;
+    private int mejorProfundidad;
+
+    // Contadores acumulados de todas las tareas
+    private Metricas metricas;
+    private ResultadoEjecucion resultado;
+
+    // Presupuesto de la búsqueda y si se imprime el reporte al terminar
+    private Presupuesto presupuesto;
+    private boolean mostrarResultados;
+
+    /**
+     * Constructor con los valores por defecto: divide en las dos primeras posiciones
+     * y usa todos los procesadores disponibles.
+     * @param piezas Lista de piezas a colocar en el tablero.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     */
+    public FuerzaBrutaParalela(ArrayList<Pieza> piezas, int tamaño) {
+        this(piezas, tamaño, 2, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor de la clase FuerzaBrutaParalela.
+     * @param piezas Lista de piezas a colocar en el tablero.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param profundidadDivision Cantidad de posiciones iniciales (k) que se dividen en tareas.
+     * @param hilos Cantidad de hilos del ForkJoinPool.
+     */
+    public FuerzaBrutaParalela(ArrayList<Pieza> piezas, int tamaño, int profundidadDivision, int hilos) {
+        this(piezas, tamaño, profundidadDivision, hilos, new MetricasConcurrentes());
+    }
+
+    /**
+     * Constructor con las métricas a utilizar.
+     * @param piezas Lista de piezas a colocar en el tablero.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param profundidadDivision Cantidad de posiciones iniciales (k) que se dividen en tareas.
+     * @param hilos Cantidad de hilos del ForkJoinPool.
+     * @param metricas Métricas seguras entre hilos (MetricasConcurrentes), o MetricasNulas para no medir.
+     */
+    public FuerzaBrutaParalela(ArrayList<Pieza> piezas, int tamaño, int profundidadDivision, int hilos,
+                               Metricas metricas) {
+        this.piezas = piezas;
+        this.indice = new IndicePiezas(piezas);
+        this.almacen = new AlmacenPiezas(piezas);
+        this.tamaño = tamaño;
+        this.profundidadDivision = profundidadDivision;
+        this.hilos = hilos;
+
+        this.solucionEncontrada = new AtomicBoolean(false);
+        this.solucion = new AtomicReference<>();
+
+        this.metricas = metricas;
+        this.presupuesto = Presupuesto.sinLimite();
+        this.mostrarResultados = true;
+    }
+
+    /**
+     * Activa o desactiva la impresión del reporte y del tablero al terminar.
+     * @param mostrarResultados true para imprimir.
+     */
+    @Override
+    public void setMostrarResultados(boolean mostrarResultados) {
+        this.mostrarResultados = mostrarResultados;
+    }
+
+    /**
+     * Método que inicia la búsqueda paralela.
+     * Mide el tiempo de ejecución y muestra estadísticas al finalizar, las distintas mediciones.
+     * @return true si se encuentra una solución, false en caso contrario.
+     */
+    public boolean resolver() {
+        return resolver(Presupuesto.sinLimite()).isSolucionEncontrada();
+    }
+
+    /**
+     * Resuelve en paralelo sin exceder el presupuesto.
+     * @param presupuesto Tiempo y nodos máximos, y cancelación.
+     * @return Resultado con la solución o el tablero parcial más profundo.
+     */
+    @Override
+    public ResultadoEjecucion resolver(Presupuesto presupuesto) {
+        this.presupuesto = presupuesto;
+        this.solucionEncontrada.set(false);
+        this.solucion.set(null);
+        TableroCompacto inicial = new TableroCompacto(tamaño);
+        this.mejorParcial = inicial.getCeldas().clone();
+        this.mejorProfundidad = 0;
+
+        MedicionMemoria medicion = MedicionMemoria.iniciar(true, presupuesto.isMedirMemoria());
+
+        long inicio = System.nanoTime();
+        presupuesto.iniciar();
+
+        ForkJoinPool pool = new ForkJoinPool(hilos);
+        try {
+            pool.invoke(new TareaBusqueda(0, inicial, new boolean[piezas.size()]));
+        } finally {
+            pool.shutdown();
+        }
+        boolean resultado = solucionEncontrada.get();
+
+        long fin = System.nanoTime();
+        medicion.detener();
+
+        Tablero mejor = crearTablero(resultado ? solucion.get() : mejorParcial);
+        this.resultado = new ResultadoEjecucion("Fuerza Bruta Paralela", resultado, presupuesto.isAgotado(), mejor,
+                                                mejor.contarCoincidencias(), 2 * tamaño * (tamaño - 1),
+                                                fin - inicio, medicion, metricas);
+        if (!mostrarResultados) {
+            return this.resultado;
+        }
+
+        System.out.println("====== Fuerza Bruta Paralela ======");
+        System.out.println("Hilos: " + hilos + " | Profundidad de división: " + profundidadDivision);
+        System.out.println("Solución encontrada: " + resultado);
+        if (presupuesto.isAgotado()) {
+            System.out.println("Búsqueda detenida: " + presupuesto.getMotivo() + ".");
+        }
+        System.out.println("Duración: " + String.format("%.3f s", this.resultado.getTiempoSegundos()));
+        this.resultado.imprimirMemoria();
+        System.out.println("Alternativas exploradas: " + metricas.getAlternativas());
+        System.out.println("Comparaciones: " + metricas.getComparaciones());
+        System.out.println("Asignaciones: " + metricas.getAsignaciones());
+        System.out.println("Instrucciones ejecutadas: " + metricas.getInstrucciones());
+        System.out.println("===================================");
+
+        if (resultado) {
+            System.out.println("Tablero solución:");
+            mejor.imprimirTablero();
+        } else if (presupuesto.isAgotado()) {
+            System.out.println("Mejor tablero parcial (" + mejorProfundidad + " piezas):");
+            mejor.imprimirTablero();
+        }
+
+        return this.resultado;
+    }
+
+    /**
+     * Obtiene el resultado estructurado de la última ejecución de resolver().
+     * @return Resultado, o null si aún no se ha resuelto.
+     */
+    public ResultadoEjecucion getResultado() {
+        return resultado;
+    }
+
+    /**
+     * Construye un tablero con la solución encontrada.
+     * @return Tablero con las piezas colocadas, o null si no hubo solución.
+     */
+    public Tablero getTableroSolucion() {
+        int[] celdas = solucion.get();
+        if (celdas == null) {
+            return null;
+        }
+        return crearTablero(celdas);
+    }
+
+    /**
+     * Construye un tablero (sin mediciones) a partir de las celdas de un tablero compacto.
+     * @param celdas Id de la pieza de cada celda, o TableroCompacto.VACIA.
+     * @return Tablero con las piezas colocadas.
+     */
+    private Tablero crearTablero(int[] celdas) {
+        Tablero tablero = new Tablero(tamaño, MetricasNulas.INSTANCIA);
+        for (int pos = 0; pos < celdas.length; pos++) {
+            if (celdas[pos] != TableroCompacto.VACIA) {
+                tablero.colocarPieza(pos / tamaño, pos % tamaño, piezas.get(celdas[pos]));
+            }
+        }
+        return tablero;
+    }
+
+    /**
+     * Guarda una copia del tablero parcial de una tarea si es el más profundo hasta ahora.
+     * @param profundidad Piezas colocadas en el tablero de la tarea.
+     * @param celdas Celdas del tablero de la tarea.
+     */
+    private synchronized void registrarParcial(int profundidad, int[] celdas) {
+        if (profundidad > mejorProfundidad) {
+            mejorProfundidad = profundidad;
+            mejorParcial = celdas.clone();
+        }
+    }
+
+    /**
+     * Tarea que explora una rama del árbol de búsqueda.
+     * Mientras no se alcance la profundidad de división crea una subtarea por cada
+     * pieza candidata; a partir de ahí continúa con backtracking secuencial.
+     * RecursiveAction es Serializable, pero las tareas nunca se serializan.
+     */
+    @SuppressWarnings("serial")
+    private class TareaBusqueda extends RecursiveAction {
+
+        private int pos;
+        private TableroCompacto tablero;
+        private boolean[] usadas;
+
+        // Profundidad máxima alcanzada y nodos visitados por la tarea
+        private int profundidadTarea;
+        private long nodosTarea;
+
+        // Contadores locales de la tarea
+        private long alternativasTarea;
+        private long comparacionesTarea;
+        private long asignacionesTarea;
+
+        /**
+         * Constructor de la tarea.
+         * @param pos Posición desde la que continúa la búsqueda.
+         * @param tablero Tablero propio de la tarea.
+         * @param usadas Piezas usadas propias de la tarea.
+         */
+        TareaBusqueda(int pos, TableroCompacto tablero, boolean[] usadas) {
+            this.pos = pos;
+            this.tablero = tablero;
+            this.usadas = usadas;
+            this.profundidadTarea = pos;
+        }
+
+        @Override
+        protected void compute() {
+            if (solucionEncontrada.get() || presupuesto.revisarAhora()) {
+                return;
+            }
+            if (pos < profundidadDivision && pos < tamaño * tamaño) {
+                dividir();
+            } else {
+                backtracking(pos);
+            }
+            metricas.sumarAlternativas(alternativasTarea);
+            metricas.sumarComparaciones(comparacionesTarea);
+            metricas.sumarAsignaciones(asignacionesTarea);
+        }
+
+        /**
+         * Crea una subtarea con copia del estado por cada pieza que encaja en la posición actual.
+         */
+        private void dividir() {
+            ArrayList<TareaBusqueda> subtareas = new ArrayList<>();
+            for (int id : candidatos(pos)) {
+                if (!usadas[id]) {
+                    alternativasTarea++;
+                    TableroCompacto tableroHija = new TableroCompacto(tablero);
+                    boolean[] usadasHija = usadas.clone();
+                    tableroHija.colocarPieza(pos, id);
+                    usadasHija[id] = true;
+                    asignacionesTarea += 2;
+                    subtareas.add(new TareaBusqueda(pos + 1, tableroHija, usadasHija));
+                }
+            }
+            invokeAll(subtareas);
+        }
+
+        /**
+         * Backtracking secuencial sobre el estado propio de la tarea.
+         * @param pos Posición actual en el tablero (de 0 a tamaño*tamaño - 1).
+         * @return true si se encuentra una solución, si otra tarea ya la encontró o si se agotó el presupuesto.
+         */
+        private boolean backtracking(int pos) {
+            // Otra tarea ya encontró la solución o se agotó el presupuesto (los nodos se registran cada 1024)
+            if (solucionEncontrada.get() || presupuesto.isAgotado()
+                    || ((++nodosTarea & (Presupuesto.INTERVALO_REVISION - 1)) == 0
+                        && presupuesto.registrarNodos(Presupuesto.INTERVALO_REVISION))) {
+                return true;
+            }
+            // Caso base: si se han colocado todas las piezas
+            if (pos == tamaño * tamaño) {
+                if (solucionEncontrada.compareAndSet(false, true)) {
+                    solucion.set(tablero.getCeldas().clone());
+                }
+                return true;
+            }
+            // Guardar el tablero parcial más profundo alcanzado
+            if (pos > profundidadTarea) {
+                profundidadTarea = pos;
+                registrarParcial(pos, tablero.getCeldas());
+            }
+            for (int id : candidatos(pos)) {
+                if (!usadas[id]) {
+                    alternativasTarea++;
+                    tablero.colocarPieza(pos, id);
+                    usadas[id] = true;
+                    asignacionesTarea += 2;
+                    if (backtracking(pos + 1)) {
+                        return true;
+                    }
+                    tablero.quitarPieza(pos);
+                    usadas[id] = false;
+                    asignacionesTarea += 2;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Obtiene las piezas que encajan con las vecinas de arriba e izquierda de una posición.
+         * @param pos Posición a evaluar.
+         * @return Ids de las piezas candidatas.
+         */
+        private int[] candidatos(int pos) {
+            int fila = pos / tamaño;
+            int columna = pos % tamaño;
+            int arriba = IndicePiezas.SIN_RESTRICCION;
+            int izquierda = IndicePiezas.SIN_RESTRICCION;
+            comparacionesTarea += 2;
+            if (fila > 0) {
+                arriba = almacen.getAbajo(tablero.getPieza(pos - tamaño));
+            }
+            if (columna > 0) {
+                izquierda = almacen.getDerecha(tablero.getPieza(pos - 1));
+            }
+            return indice.candidatos(arriba, izquierda);
+        }
+    }
+}
@@ -1,7 +1,21 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Clase que implementa el Algoritmo Genético para resolver el rompecabezas.
@@ -12,13 +26,26 @@ import java.util.Random;
  * - Poblacion: Maneja la población de cromosomas.
  * - Cromosoma: Representa un individuo con su configuración de piezas y fitness.
  *
+ * Los hijos de cada generación pueden generarse en paralelo. Cada hijo usa su propio
+ * SplittableRandom derivado en orden del generador principal, por lo que con la misma
+ * semilla el resultado es el mismo sin importar la cantidad de hilos.
+ *
+ * Implementa Resolvedor: cada hijo generado cuenta como un nodo del presupuesto, que se
+ * revisa al inicio de cada generación; al agotarse devuelve el mejor cromosoma obtenido.
+ *
+ * Implementa Reanudable: el estado (generación, población, mejor cromosoma y cantidad de
+ * generadores derivados del principal) se guarda al inicio de una generación, por lo que al
+ * continuar se obtiene el mismo resultado que sin interrupción.
+ *
  * @autor Jeremy Montero
  * @version 1.2
  */
-public class Genetico {
+public class Genetico implements Reanudable {
 
-    // Población actual de cromosomas
+    // Población actual de cromosomas, piezas base (el id de una pieza es su posición) y sus lados por id
     private Poblacion poblacion;
+    private ArrayList<Pieza> piezasBase;
+    private AlmacenPiezas almacen;
 
     // Parámetros del problema
     private int tamañoTablero;
@@ -27,18 +54,37 @@ public class Genetico {
     private int maxGeneraciones;
     private double probMutacion;
 
-    // Generador de números aleatorios
-    private Random random;
+    // Generador de números aleatorios, generadores derivados de él (para reconstruirlo al continuar)
+    // y cantidad de hilos para generar hijos
+    private SplittableRandom random;
+    private long divisiones;
+    private long semilla;
+    private int hilos;
 
-    // Contadores empíricos
-    private long comparaciones;
-    private long asignaciones;
-    private long instrucciones;
+    // Contadores empíricos (seguros entre hilos si se generan hijos en paralelo)
+    private Metricas metricas;
     
-    // Para mostrar padres/hijos solo una vez
+    // Para mostrar padres/hijos solo una vez (solo con un hilo)
+    private boolean mostrarProceso;
+
+    // Resultado de la última ejecución
+    private ResultadoEjecucion resultado;
+
+    // Presupuesto de la ejecución y si se imprime el reporte al terminar
+    private Presupuesto presupuesto;
+    private boolean mostrarResultados;
+
+    // Clones descartados en la última selección (la población está convergiendo)
+    private int clonesDescartados;
     private boolean yaMostroProceso = false;
     private int contadorHijosMostrados = 0;
 
+    // Puntos de control y estado cargado con reanudar() para la siguiente ejecución
+    private PuntoControl puntoControl;
+    private int genInicial;
+    private Cromosoma mejorInicial;
+    private long nanosPrevios;
+
     /**
      * Constructor.
      * Calcula la población según el tamaño del tablero.
@@ -61,7 +107,7 @@ public class Genetico {
      * @param tamaño Tamaño del tablero.
      * @return Tamaño de la población inicial.
      */
-    private static int calcularPoblacionInicial(int tamaño) {
+    static int calcularPoblacionInicial(int tamaño) {
         switch(tamaño) {
             case 3:  return 3;
             case 5:  return 5;
@@ -74,6 +120,18 @@ public class Genetico {
         }
     }
 
+    /**
+     * Constructor con semilla y cantidad de hilos.
+     * Usa la población y los parámetros por defecto según el tamaño del tablero.
+     * @param tamañoTablero Tamaño del tablero (tamaño x tamaño).
+     * @param piezasBase Lista de piezas base para crear la población inicial.
+     * @param semilla Semilla del generador de números aleatorios.
+     * @param hilos Cantidad de hilos para generar los hijos.
+     */
+    public Genetico(int tamañoTablero, ArrayList<Pieza> piezasBase, long semilla, int hilos) {
+        this(tamañoTablero, calcularPoblacionInicial(tamañoTablero), 10, 0.75, piezasBase, semilla, hilos);
+    }
+
     /**
      * Constructor.
      * @param tamañoTablero Tamaño del tablero (tamaño x tamaño).
@@ -83,19 +141,61 @@ public class Genetico {
      */
     public Genetico(int tamañoTablero, int poblacionInicial, int maxGeneraciones,
                     double probMutacion, ArrayList<Pieza> piezasBase) {
+        this(tamañoTablero, poblacionInicial, maxGeneraciones, probMutacion, piezasBase,
+             new Random().nextLong(), 1);
+    }
+
+    /**
+     * Constructor.
+     * @param tamañoTablero Tamaño del tablero (tamaño x tamaño).
+     * @param poblacionInicial Tamaño de la población inicial.
+     * @param maxGeneraciones Máximo de generaciones a ejecutar.
+     * @param probMutacion Probabilidad de mutación
+     * @param piezasBase Lista de piezas base para crear la población inicial.
+     * @param semilla Semilla del generador de números aleatorios.
+     * @param hilos Cantidad de hilos para generar los hijos (1 = secuencial).
+     */
+    public Genetico(int tamañoTablero, int poblacionInicial, int maxGeneraciones,
+                    double probMutacion, ArrayList<Pieza> piezasBase, long semilla, int hilos) {
+        this(tamañoTablero, poblacionInicial, maxGeneraciones, probMutacion, piezasBase, semilla, hilos,
+             hilos > 1 ? new MetricasConcurrentes() : new MetricasSimples());
+    }
+
+    /**
+     * Constructor con las métricas a utilizar.
+     * @param tamañoTablero Tamaño del tablero (tamaño x tamaño).
+     * @param poblacionInicial Tamaño de la población inicial.
+     * @param maxGeneraciones Máximo de generaciones a ejecutar.
+     * @param probMutacion Probabilidad de mutación
+     * @param piezasBase Lista de piezas base para crear la población inicial.
+     * @param semilla Semilla del generador de números aleatorios.
+     * @param hilos Cantidad de hilos para generar los hijos (1 = secuencial).
+     * @param metricas Métricas donde se registran las mediciones; con varios hilos deben ser
+     *                 seguras entre hilos (MetricasConcurrentes), o MetricasNulas para no medir.
+     */
+    public Genetico(int tamañoTablero, int poblacionInicial, int maxGeneraciones, double probMutacion,
+                    ArrayList<Pieza> piezasBase, long semilla, int hilos, Metricas metricas) {
 
         this.tamañoTablero = tamañoTablero;
+        this.piezasBase = piezasBase;
+        this.almacen = new AlmacenPiezas(piezasBase);
         this.poblacionInicial = poblacionInicial;
         this.hijosGenerados = calcularHijos(tamañoTablero);
         this.maxGeneraciones = maxGeneraciones;
         this.probMutacion = probMutacion;
-        this.random = new Random();
+        this.semilla = semilla;
+        this.hilos = Math.max(1, hilos);
+        this.random = new SplittableRandom(semilla);
 
-        this.comparaciones = 0;
-        this.asignaciones = 0;
-        this.instrucciones = 0;
+        // Con varios hilos la impresión del proceso se mezclaría, por lo que se omite
+        this.mostrarProceso = this.hilos == 1;
 
-        this.poblacion = new Poblacion(poblacionInicial, tamañoTablero, piezasBase);
+        this.metricas = metricas;
+        this.presupuesto = Presupuesto.sinLimite();
+        this.mostrarResultados = true;
+
+        this.poblacion = new Poblacion(poblacionInicial, tamañoTablero, almacen, piezasBase.size(), random.split());
+        this.divisiones = 1;
     }
     
     /**
@@ -118,14 +218,19 @@ public class Genetico {
 
     // Getters para medidas empíricas
     public long getComparaciones() {
-        return comparaciones;
+        return metricas.getComparaciones();
     }
     public long getAsignaciones() {
-        return asignaciones;
+        return metricas.getAsignaciones();
     }
     public long getInstrucciones() {
-        instrucciones = comparaciones + asignaciones;
-        return instrucciones;
+        return metricas.getInstrucciones();
+    }
+    public long getAlternativas() {
+        return metricas.getAlternativas();
+    }
+    public long getPodas() {
+        return metricas.getPodas();
     }
 
     /**
@@ -133,77 +238,358 @@ public class Genetico {
      * Mide el tiempo de ejecución y reporta estadísticas detalladas.
      */
     public void ejecutar() {
+        resolver(Presupuesto.sinLimite());
+    }
+
+    /**
+     * Ejecuta el algoritmo genético sin exceder el presupuesto.
+     * @param presupuesto Tiempo y nodos (hijos generados) máximos, y cancelación.
+     * @return Resultado con la solución o el mejor cromosoma obtenido.
+     */
+    @Override
+    public ResultadoEjecucion resolver(Presupuesto presupuesto) {
+        this.presupuesto = presupuesto;
 
-        Runtime runtime = Runtime.getRuntime();
-        runtime.gc();
-        long memoriaInicial = runtime.totalMemory() - runtime.freeMemory();
+        MedicionMemoria medicion = MedicionMemoria.iniciar(hilos > 1, presupuesto.isMedirMemoria());
 
-        long inicio = System.nanoTime();
+        long inicio = System.nanoTime() - nanosPrevios;
+        presupuesto.iniciar();
 
         // Fitness máximo posible del tablero
-        int maxFitness = (tamañoTablero * (tamañoTablero - 1)) * 2;
+        int maxFitness = getFitnessMaximo();
+
+        Cromosoma mejorGlobal = mejorInicial;
+        int gen = genInicial;
+        mejorInicial = null;
+        genInicial = 0;
+        nanosPrevios = 0;
+
+        ExecutorService pool = hilos > 1 ? Executors.newFixedThreadPool(hilos) : null;
+        try {
+            for (; gen < maxGeneraciones; gen++) {
+
+                // Estado al inicio de la generación, para guardarlo si se agota el presupuesto
+                MetricasSimples contadores = null;
+                Cromosoma mejorAnterior = mejorGlobal;
+                if (puntoControl != null) {
+                    contadores = copiarContadores();
+                    if (puntoControl.toca()) {
+                        guardarEstado(gen, mejorGlobal, contadores, inicio);
+                    }
+                }
+
+                Cromosoma mejor = ordenarYObtenerMejor();
 
-        Cromosoma mejorGlobal = null;
+                metricas.incrementarComparaciones();
+                if (mejor.getFitness() == maxFitness) {
 
-        for (int gen = 0; gen < maxGeneraciones; gen++) {
+                    imprimirResultados(gen, mejor, true, inicio, medicion);
+                    return resultado;
+                }
 
-            poblacion.ordenarPorFitness();
-            Cromosoma mejor = poblacion.getPoblacion().get(0);
+                metricas.incrementarComparaciones();
+                if (mejorGlobal == null || mejor.getFitness() > mejorGlobal.getFitness()) {
+                    mejorGlobal = mejor;
+                    metricas.incrementarAsignaciones();
+                }
 
-            comparaciones++;
-            if (mejor.getFitness() == maxFitness) {
+                // Detenerse si los hijos de esta generación exceden el presupuesto
+                if (presupuesto.registrarNodos(getHijosPorGeneracion())) {
+                    if (puntoControl != null) {
+                        guardarEstado(gen, mejorAnterior, contadores, inicio);
+                    }
+                    break;
+                }
 
-                long fin = System.nanoTime();
-                imprimirResultados(gen, mejor, true, inicio, memoriaInicial, runtime);
-                return;
+                evolucionar(pool);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
             }
+        }
+
+        // No se encontró solución perfecta
+        imprimirResultadosFinales(mejorGlobal, gen, inicio, medicion);
+        return resultado;
+    }
+
+    @Override
+    public void setPuntoControl(PuntoControl puntoControl) {
+        this.puntoControl = puntoControl;
+    }
+
+    @Override
+    public void reanudar(Path archivo) throws IOException {
+        PuntoControl.Estado estado = PuntoControl.leer(archivo, PuntoControl.GENETICO, tamañoTablero, piezasBase);
+        DataInputStream datos = estado.getDatos();
+        int gen = datos.readInt();
+        if (datos.readLong() != semilla || datos.readInt() != poblacionInicial) {
+            throw new IOException(archivo + " es de otra semilla o tamaño de población");
+        }
+        long divisionesGuardadas = datos.readLong();
+        int clones = datos.readInt();
+        Cromosoma mejor = datos.readBoolean() ? leerCromosoma(datos) : null;
+        ArrayList<Cromosoma> guardada = new ArrayList<>();
+        for (int i = 0; i < poblacionInicial; i++) {
+            guardada.add(leerCromosoma(datos));
+        }
+
+        // Mismo generador principal: se repiten las divisiones hechas hasta esa generación
+        random = new SplittableRandom(semilla);
+        for (long k = 0; k < divisionesGuardadas; k++) {
+            random.split();
+        }
+        divisiones = divisionesGuardadas;
+        poblacion.setPoblacion(guardada);
+        clonesDescartados = clones;
+        genInicial = gen;
+        mejorInicial = mejor;
+        estado.restaurarMetricas(metricas);
+        nanosPrevios = estado.getNanos();
+    }
 
-            comparaciones++;
-            if (mejorGlobal == null || mejor.getFitness() > mejorGlobal.getFitness()) {
-                mejorGlobal = mejor;
-                asignaciones++;
+    /**
+     * Copia los contadores actuales, para guardarlos junto con el estado de la generación.
+     * @return Métricas con los mismos valores.
+     */
+    private MetricasSimples copiarContadores() {
+        MetricasSimples copia = new MetricasSimples();
+        copia.sumarComparaciones(metricas.getComparaciones());
+        copia.sumarAsignaciones(metricas.getAsignaciones());
+        copia.sumarAlternativas(metricas.getAlternativas());
+        copia.sumarPodas(metricas.getPodas());
+        return copia;
+    }
+
+    /**
+     * Entrega al punto de control el estado al inicio de una generación. La población se guarda
+     * en su orden actual, que al inicio de la generación es el que dejó la selección anterior.
+     * @param gen Generación.
+     * @param mejorGlobal Mejor cromosoma de las generaciones anteriores, o null.
+     * @param contadores Contadores al inicio de la generación.
+     * @param inicio Inicio de la ejecución (descontando las ejecuciones anteriores).
+     */
+    private void guardarEstado(int gen, Cromosoma mejorGlobal, Metricas contadores, long inicio) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream salida = PuntoControl.iniciarEstado(bytes, PuntoControl.GENETICO, tamañoTablero,
+                                                                 piezasBase, contadores, System.nanoTime() - inicio);
+            salida.writeInt(gen);
+            salida.writeLong(semilla);
+            salida.writeInt(poblacionInicial);
+            salida.writeLong(divisiones);
+            salida.writeInt(clonesDescartados);
+            salida.writeBoolean(mejorGlobal != null);
+            if (mejorGlobal != null) {
+                escribirCromosoma(salida, mejorGlobal);
             }
+            for (Cromosoma cromosoma : poblacion.getPoblacion()) {
+                escribirCromosoma(salida, cromosoma);
+            }
+            salida.flush();
+            puntoControl.guardar(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void escribirCromosoma(DataOutputStream salida, Cromosoma cromosoma) throws IOException {
+        for (int id : cromosoma.getIds()) {
+            salida.writeInt(id);
+        }
+    }
 
-            ArrayList<Cromosoma> nuevaPoblacion = new ArrayList<>();
+    private Cromosoma leerCromosoma(DataInputStream datos) throws IOException {
+        int[] ids = new int[piezasBase.size()];
+        for (int pos = 0; pos < ids.length; pos++) {
+            ids[pos] = datos.readInt();
+            if (ids[pos] < 0 || ids[pos] >= ids.length) {
+                throw new IOException("Id de pieza inválido en el punto de control: " + ids[pos]);
+            }
+        }
+        return new Cromosoma(almacen, ids, tamañoTablero);
+    }
+
+    /**
+     * Ejecuta una generación sobre la población ya ordenada por fitness:
+     * conserva los dos mejores, genera los hijos y selecciona la siguiente población.
+     * @param pool Hilos para generar los hijos, o null para hacerlo de forma secuencial.
+     */
+    void evolucionar(ExecutorService pool) {
+        ArrayList<Cromosoma> nuevaPoblacion = new ArrayList<>();
+
+        // Elitismo: conservar los dos mejores
+        nuevaPoblacion.add(poblacion.getPoblacion().get(0));
+        metricas.incrementarAsignaciones();
+        nuevaPoblacion.add(poblacion.getPoblacion().get(1));
+        metricas.incrementarAsignaciones();
+
+        // Detectar si hay cromosomas duplicados en la población actual
+        // o si la selección anterior tuvo que descartar clones
+        boolean hayDuplicados = clonesDescartados > 0 || detectarDuplicados(poblacion.getPoblacion());
+
+        // Generar el resto de la población (hijos)
+        int hijosAGenerar = getHijosPorGeneracion();
+        for (Cromosoma hijo : generarHijos(hijosAGenerar, hayDuplicados, pool)) {
+            nuevaPoblacion.add(hijo);
+            metricas.incrementarAsignaciones();
+        }
+
+        // Seleccionar los mejores candidatos de la nueva población
+        // para convertirse en la población de la siguiente generación
+        poblacion.setPoblacion(seleccionarMejores(nuevaPoblacion, poblacionInicial));
+    }
+
+    /**
+     * Ordena la población por fitness y retorna su mejor cromosoma.
+     * @return Mejor cromosoma de la población actual.
+     */
+    Cromosoma ordenarYObtenerMejor() {
+        poblacion.ordenarPorFitness();
+        return poblacion.getPoblacion().get(0);
+    }
+
+    /**
+     * Obtiene copias de los mejores cromosomas para enviarlos a otra población.
+     * @param cantidad Cantidad de cromosomas a enviar.
+     * @return Copias de los mejores cromosomas.
+     */
+    ArrayList<Cromosoma> getMigrantes(int cantidad) {
+        ArrayList<Cromosoma> migrantes = new ArrayList<>();
+        for (Cromosoma cromosoma : poblacion.getMejores(cantidad)) {
+            migrantes.add(new Cromosoma(almacen, cromosoma.getIds().clone(), tamañoTablero));
+            metricas.incrementarAsignaciones();
+        }
+        return migrantes;
+    }
+
+    /**
+     * Reemplaza a los peores cromosomas de la población por los migrantes recibidos.
+     * La población debe estar ordenada por fitness; los migrantes que ya están
+     * en la población se ignoran para no crear clones.
+     * @param migrantes Cromosomas recibidos de otra población.
+     */
+    void recibirMigrantes(ArrayList<Cromosoma> migrantes) {
+        ArrayList<Cromosoma> actual = poblacion.getPoblacion();
+        HashMap<Long, ArrayList<Cromosoma>> vistos = new HashMap<>();
+        for (Cromosoma cromosoma : actual) {
+            registrarSiEsNuevo(cromosoma, vistos);
+        }
 
-            // Elitismo: conservar los dos mejores
-            nuevaPoblacion.add(poblacion.getPoblacion().get(0));
-            asignaciones++;
-            nuevaPoblacion.add(poblacion.getPoblacion().get(1));
-            asignaciones++;
+        int reemplazo = actual.size() - 1;
+        for (Cromosoma migrante : migrantes) {
+            // Nunca se reemplaza a los dos mejores (elitismo)
+            metricas.incrementarComparaciones();
+            if (reemplazo < 2) {
+                break;
+            }
+            if (registrarSiEsNuevo(migrante, vistos)) {
+                actual.set(reemplazo--, migrante);
+                metricas.incrementarAsignaciones();
+            }
+        }
+    }
 
-            // Detectar si hay cromosomas duplicados en la población actual
-            boolean hayDuplicados = detectarDuplicados(poblacion.getPoblacion());
+    /**
+     * Activa o desactiva la impresión de padres, hijos y mutaciones.
+     * @param mostrarProceso true para mostrar el proceso.
+     */
+    void setMostrarProceso(boolean mostrarProceso) {
+        this.mostrarProceso = mostrarProceso;
+    }
 
-            // Generar el resto de la población (hijos)
-            int hijosAGenerar = hijosGenerados;
-           // int contadorHijos = 0;
-            int idIndividuo = 1;
-            while (nuevaPoblacion.size() < poblacionInicial + hijosAGenerar) { 
+    /**
+     * Activa o desactiva la impresión del reporte, del tablero y del proceso genético.
+     * @param mostrarResultados true para imprimir.
+     */
+    @Override
+    public void setMostrarResultados(boolean mostrarResultados) {
+        this.mostrarResultados = mostrarResultados;
+        if (!mostrarResultados) {
+            this.mostrarProceso = false;
+        }
+    }
 
-                Cromosoma padre1 = seleccionarPadre();
-                Cromosoma padre2 = seleccionarPadre();
+    /**
+     * Obtiene el fitness máximo posible del tablero.
+     * @return Cantidad de lados internos que pueden coincidir.
+     */
+    int getFitnessMaximo() {
+        return (tamañoTablero * (tamañoTablero - 1)) * 2;
+    }
 
-                Cromosoma hijo = cruzar(padre1, padre2);
+    /**
+     * Obtiene la cantidad de hijos que se generan en cada generación
+     * (la nueva población menos los dos que se conservan por elitismo).
+     * @return Hijos por generación.
+     */
+    int getHijosPorGeneracion() {
+        return poblacionInicial + hijosGenerados - 2;
+    }
 
-                // Solo aplicar mutación si hay poblaciones duplicadas
-                if (hayDuplicados) {
-                    mutar(hijo, idIndividuo);
-                    idIndividuo++;
-                } 
+    /**
+     * Genera los hijos de una generación.
+     * A cada hijo se le asigna, en orden, un generador derivado del principal; así el
+     * resultado es el mismo de forma secuencial o en paralelo.
+     * @param cantidad Cantidad de hijos a generar.
+     * @param hayDuplicados Indica si se debe aplicar mutación.
+     * @param pool Hilos para generar los hijos, o null para hacerlo de forma secuencial.
+     * @return Arreglo con los hijos en orden.
+     */
+    private Cromosoma[] generarHijos(int cantidad, boolean hayDuplicados, ExecutorService pool) {
+        SplittableRandom[] generadores = new SplittableRandom[cantidad];
+        for (int k = 0; k < cantidad; k++) {
+            generadores[k] = random.split();
+        }
+        divisiones += cantidad;
 
-                nuevaPoblacion.add(hijo);
-                asignaciones++;
+        Cromosoma[] hijos = new Cromosoma[cantidad];
+        if (pool == null) {
+            for (int k = 0; k < cantidad; k++) {
+                hijos[k] = generarHijo(generadores[k], hayDuplicados, k + 1);
             }
+            return hijos;
+        }
 
-            // Seleccionar los mejores candidatos de la nueva población
-            // para convertirse en la población de la siguiente generación
-            poblacion.setPoblacion(seleccionarMejores(nuevaPoblacion, poblacionInicial));
+        ArrayList<Callable<Cromosoma>> tareas = new ArrayList<>();
+        for (int k = 0; k < cantidad; k++) {
+            SplittableRandom generador = generadores[k];
+            int idIndividuo = k + 1;
+            tareas.add(() -> generarHijo(generador, hayDuplicados, idIndividuo));
         }
+        try {
+            List<Future<Cromosoma>> resultados = pool.invokeAll(tareas);
+            for (int k = 0; k < cantidad; k++) {
+                hijos[k] = resultados.get(k).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Generación de hijos interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al generar un hijo", e.getCause());
+        }
+        return hijos;
+    }
 
-        // No se encontró solución perfecta
-        long fin = System.nanoTime();
-        imprimirResultadosFinales(mejorGlobal, inicio, memoriaInicial, runtime);
+    /**
+     * Genera un hijo: selección de padres, cruce y mutación.
+     * @param generador Generador de números aleatorios propio del hijo.
+     * @param hayDuplicados Indica si se debe aplicar mutación.
+     * @param idIndividuo ID del individuo para mostrar en la mutación.
+     * @return Cromosoma hijo.
+     */
+    private Cromosoma generarHijo(SplittableRandom generador, boolean hayDuplicados, int idIndividuo) {
+        Cromosoma padre1 = seleccionarPadre(generador);
+        Cromosoma padre2 = seleccionarPadre(generador);
+
+        Cromosoma hijo = cruzar(padre1, padre2, generador);
+
+        // Solo aplicar mutación si hay poblaciones duplicadas
+        if (hayDuplicados) {
+            mutar(hijo, idIndividuo, generador);
+        }
+        return hijo;
     }
 
     /**
@@ -212,24 +598,24 @@ public class Genetico {
      * @param mejor Mejor cromosoma encontrado.
      * @param perfecta Indica si la solución es perfecta.
      * @param inicio Tiempo de inicio.
-     * @param memoriaInicial Memoria inicial.
-     * @param runtime Instancia de Runtime para medir memoria.
+     * @param medicion Medición de memoria de la ejecución.
      * @return void
      */
     private void imprimirResultados(int gen, Cromosoma mejor, boolean perfecta,
-                                    long inicio, long memoriaInicial, Runtime runtime) {
+                                    long inicio, MedicionMemoria medicion) {
 
-        long fin = System.nanoTime();
-        long memoriaFinal = runtime.totalMemory() - runtime.freeMemory();
-        long memoriaUsada = memoriaFinal - memoriaInicial;
-        double tiempo = (fin - inicio) / 1_000_000_000.0;
+        registrarResultado(mejor, perfecta, inicio, medicion);
+        if (!mostrarResultados) {
+            return;
+        }
 
         System.out.println("====== Algoritmo Genético ======");
         System.out.println("Solución perfecta encontrada: " + perfecta);
         System.out.println("Generación: " + gen);
+        System.out.println("Semilla: " + semilla + " | Hilos: " + hilos);
         System.out.println("Fitness: " + mejor.getFitness());
-        System.out.println("Duración: " + String.format("%.3f s", tiempo));
-        System.out.println("Memoria usada: " + (memoriaUsada / 1024) + " KB");
+        System.out.println("Duración: " + String.format("%.3f s", resultado.getTiempoSegundos()));
+        imprimirMemoria(gen);
         System.out.println("Comparaciones: " + getComparaciones());
         System.out.println("Asignaciones: " + getAsignaciones());
         System.out.println("Instrucciones: " + getInstrucciones());
@@ -243,25 +629,30 @@ public class Genetico {
     /**
      * Imprime resultados finales si no se encontró solución perfecta.
      * @param mejorGlobal Mejor cromosoma encontrado.
+     * @param generaciones Generaciones ejecutadas.
      * @param inicio Tiempo de inicio.
-     * @param memoriaInicial Memoria inicial.
-     * @param runtime Instancia de Runtime para medir memoria.
+     * @param medicion Medición de memoria de la ejecución.
      * @return void
      */
-    private void imprimirResultadosFinales(Cromosoma mejorGlobal,
-                                           long inicio, long memoriaInicial, Runtime runtime) {
+    private void imprimirResultadosFinales(Cromosoma mejorGlobal, int generaciones,
+                                           long inicio, MedicionMemoria medicion) {
 
-        long fin = System.nanoTime();
-        long memoriaFinal = runtime.totalMemory() - runtime.freeMemory();
-        long memoriaUsada = memoriaFinal - memoriaInicial;
-        double tiempo = (fin - inicio) / 1_000_000_000.0;
+        registrarResultado(mejorGlobal, false, inicio, medicion);
+        if (!mostrarResultados) {
+            return;
+        }
 
         System.out.println("====== Algoritmo Genético ======");
         System.out.println("No se encontró solución perfecta.");
         System.out.println("Se muestra la mejor aproximación.");
         System.out.println("Fitness alcanzado: " + mejorGlobal.getFitness());
-        System.out.println("Duración: " + String.format("%.3f s", tiempo));
-        System.out.println("Memoria usada: " + (memoriaUsada / 1024) + " KB");
+        System.out.println("Semilla: " + semilla + " | Hilos: " + hilos);
+        System.out.println("Duración: " + String.format("%.3f s", resultado.getTiempoSegundos()));
+        if (presupuesto.isAgotado()) {
+            System.out.println("Ejecución detenida en la generación " + generaciones + ": "
+                               + presupuesto.getMotivo() + ".");
+        }
+        imprimirMemoria(generaciones);
         System.out.println("Comparaciones: " + getComparaciones());
         System.out.println("Asignaciones: " + getAsignaciones());
         System.out.println("Instrucciones: " + getInstrucciones());
@@ -272,6 +663,40 @@ public class Genetico {
         imprimirTop3();
     }
 
+    /**
+     * Detiene la medición y guarda el resultado estructurado de la ejecución.
+     * @param mejor Mejor cromosoma encontrado.
+     * @param perfecta Indica si la solución es perfecta.
+     * @param inicio Tiempo de inicio.
+     * @param medicion Medición de memoria de la ejecución.
+     */
+    private void registrarResultado(Cromosoma mejor, boolean perfecta, long inicio, MedicionMemoria medicion) {
+        long fin = System.nanoTime();
+        medicion.detener();
+        resultado = new ResultadoEjecucion("Algoritmo Genético", perfecta, presupuesto.isAgotado(), mejor.aTablero(),
+                                           mejor.getFitness(), getFitnessMaximo(), fin - inicio, medicion, metricas);
+    }
+
+    /**
+     * Imprime la memoria asignada total y por generación (creación de cromosomas e hijos).
+     * @param generaciones Generaciones ejecutadas.
+     */
+    private void imprimirMemoria(int generaciones) {
+        resultado.imprimirMemoria();
+        if (generaciones > 0) {
+            System.out.println("Memoria asignada por generación: "
+                               + (resultado.getBytesAsignados() / generaciones / 1024) + " KB");
+        }
+    }
+
+    /**
+     * Obtiene el resultado estructurado de la última ejecución.
+     * @return Resultado, o null si aún no se ha ejecutado.
+     */
+    public ResultadoEjecucion getResultado() {
+        return resultado;
+    }
+
     /**
      * Imprime los 3 mejores cromosomas finales.
      * @return void
@@ -289,101 +714,81 @@ public class Genetico {
 
     /**
      * Selección por torneo.
+     * @param generador Generador de números aleatorios del hijo.
      * @return Cromosoma seleccionado como padre.
      */
-    private Cromosoma seleccionarPadre() {
+    private Cromosoma seleccionarPadre(SplittableRandom generador) {
         int k = 3;
         Cromosoma mejor = null;
 
         for (int i = 0; i < k; i++) {
-            int index = random.nextInt(poblacion.getPoblacion().size());
+            int index = generador.nextInt(poblacion.getPoblacion().size());
             Cromosoma candidato = poblacion.getPoblacion().get(index);
 
-            comparaciones++;
+            metricas.incrementarComparaciones();
             if (mejor == null || candidato.getFitness() > mejor.getFitness()) {
                 mejor = candidato;
-                asignaciones++;
+                metricas.incrementarAsignaciones();
             }
         }
         return mejor;
     }
 
     /**
-     * Cruce válido entre dos padres.
+     * Cruce válido entre dos padres (cruce de orden, OX) sobre los ids de las piezas.
+     * Copia un segmento del padre 1 y completa el resto con las piezas del padre 2 en su orden,
+     * usando un arreglo indexado por id para saber en O(1) si una pieza ya está en el segmento.
      * Garantiza que no hay piezas duplicadas ni faltantes.
      * Muestra puntuaciones de padres e hijo.
      * @param p1 Padre 1.
      * @param p2 Padre 2.
+     * @param generador Generador de números aleatorios del hijo.
      * @return Cromosoma hijo resultante del cruce.
      */
-    private Cromosoma cruzar(Cromosoma p1, Cromosoma p2) {
-        Pieza[][] genes = new Pieza[tamañoTablero][tamañoTablero];
-        boolean[][] usado = new boolean[tamañoTablero][tamañoTablero];
-        
-        // Convertir matrices 2D a arrays 1D para facilitar el cruce
-        Pieza[] arr1 = matrizA1D(p1.getGenes());
-        Pieza[] arr2 = matrizA1D(p2.getGenes());
-        Pieza[] hijo = new Pieza[arr1.length];
+    Cromosoma cruzar(Cromosoma p1, Cromosoma p2, SplittableRandom generador) {
+        int[] ids1 = p1.getIds();
+        int[] ids2 = p2.getIds();
+        int[] hijo = new int[ids1.length];
         
         // Seleccionar dos puntos de corte aleatorios
-        int punto1 = random.nextInt(arr1.length);
-        int punto2 = random.nextInt(arr1.length);
+        int punto1 = generador.nextInt(ids1.length);
+        int punto2 = generador.nextInt(ids1.length);
         if (punto1 > punto2) {
             int temp = punto1;
             punto1 = punto2;
             punto2 = temp;
         }
         
-        // Copiar segmento del padre 1
-        boolean[] enSegmento = new boolean[arr1.length];
+        // Copiar segmento del padre 1 y marcar sus piezas por id
+        boolean[] enSegmento = new boolean[ids1.length];
         for (int i = punto1; i < punto2; i++) {
-            hijo[i] = arr1[i].clonar();
-            enSegmento[arr1[i].hashCode() % arr1.length] = true;
-            asignaciones++;
+            hijo[i] = ids1[i];
+            enSegmento[ids1[i]] = true;
+            metricas.incrementarAsignaciones();
         }
         
-        // Llenar con piezas del padre 2 que no estén duplicadas
+        // Llenar las demás posiciones con las piezas del padre 2 que no estén en el segmento
         int posicion = 0;
-        for (int i = 0; i < arr2.length; i++) {
-            comparaciones++;
-            if (posicion >= punto1 && posicion < punto2) {
-                posicion++;
-            }
-            
-            // Verificar que la pieza no esté ya en el hijo
-            boolean existe = false;
-            for (int j = punto1; j < punto2; j++) {
-                comparaciones++;
-                if (hijo[j] != null && hijo[j].hashCode() == arr2[i].hashCode()) {
-                    existe = true;
-                    break;
+        for (int i = 0; i < ids2.length; i++) {
+            metricas.incrementarComparaciones();
+            if (!enSegmento[ids2[i]]) {
+                // Saltar el segmento copiado del padre 1
+                if (posicion == punto1) {
+                    posicion = punto2;
                 }
-            }
-            
-            if (!existe && posicion < arr2.length) {
-                hijo[posicion] = arr2[i].clonar();
-                posicion++;
-                asignaciones++;
+                hijo[posicion++] = ids2[i];
+                metricas.incrementarAsignaciones();
             }
         }
         
-        // Convetir el array del hijo de vuelta a matriz 
-        int index = 0;
-        for (int i = 0; i < tamañoTablero; i++) {
-            for (int j = 0; j < tamañoTablero; j++) {
-                genes[i][j] = hijo[index++];
-                asignaciones++;
-            }
-        }
-        
-        Cromosoma hijoGenerado = new Cromosoma(genes);
+        Cromosoma hijoGenerado = new Cromosoma(almacen, hijo, tamañoTablero);
         
         // Mostrar información del cruce
-        if (!yaMostroProceso) {
+        if (mostrarProceso && !yaMostroProceso) {
             System.out.println("\n======= DEMOSTRACIÓN DEL PROCESO GENÉTICO =======");
         }
         
-        if (contadorHijosMostrados < 2) {
+        if (mostrarProceso && contadorHijosMostrados < 2) {
             contadorHijosMostrados++;
             System.out.println("\n--- HIJO #" + contadorHijosMostrados + " ---");
             System.out.println("PADRE 1 (Fitness: " + p1.getFitness() + "):");
@@ -402,22 +807,6 @@ public class Genetico {
         return hijoGenerado;
     }
     
-    /**
-     * Convierte una matriz en una lista
-     * @param matriz Matriz de piezas.
-     * @return Array unidimensional de piezas.
-     */
-    private Pieza[] matrizA1D(Pieza[][] matriz) {
-        Pieza[] array = new Pieza[tamañoTablero * tamañoTablero];
-        int index = 0;
-        for (int i = 0; i < tamañoTablero; i++) {
-            for (int j = 0; j < tamañoTablero; j++) {
-                array[index++] = matriz[i][j];
-            }
-        }
-        return array;
-    }
-
     /**
      * Mutación: intercambio de dos piezas.
      * Solo acepta la mutación si el fitness mejora o se mantiene igual.
@@ -425,65 +814,58 @@ public class Genetico {
      * Muestra todas las mutaciones intentadas con el ID del individuo y las piezas.
      * @param cromosoma Cromosoma a mutar.
      * @param idIndividuo ID del individuo para mostrar en la mutación.
+     * @param generador Generador de números aleatorios del hijo.
      * @return void
      */
-    private void mutar(Cromosoma cromosoma, int idIndividuo) {
+    private void mutar(Cromosoma cromosoma, int idIndividuo, SplittableRandom generador) {
 
-        comparaciones++;
-        if (random.nextDouble() < probMutacion) {
+        metricas.incrementarComparaciones();
+        if (generador.nextDouble() < probMutacion) {
 
-            int f1 = random.nextInt(tamañoTablero);
-            int c1 = random.nextInt(tamañoTablero);
-            int f2 = random.nextInt(tamañoTablero);
-            int c2 = random.nextInt(tamañoTablero);
+            int f1 = generador.nextInt(tamañoTablero);
+            int c1 = generador.nextInt(tamañoTablero);
+            int f2 = generador.nextInt(tamañoTablero);
+            int c2 = generador.nextInt(tamañoTablero);
 
             int fitnessAntes = cromosoma.getFitness();
 
-            // Guardar las piezas originales para restaurar si es necesario
-            Pieza original1 = cromosoma.getGenes()[f1][c1];
-            Pieza original2 = cromosoma.getGenes()[f2][c2];
-            
-            // Guardar valores de las piezas para mostrar
-            String pieza1Info = original1.getArriba() + "-" + original1.getDerecha() + "-" + 
-                               original1.getAbajo() + "-" + original1.getIzquierda();
-            String pieza2Info = original2.getArriba() + "-" + original2.getDerecha() + "-" + 
-                               original2.getAbajo() + "-" + original2.getIzquierda();
-
-            // Realizar el intercambio
-            Pieza temp = cromosoma.getGenes()[f1][c1];
-            asignaciones++;
-
-            cromosoma.getGenes()[f1][c1] = cromosoma.getGenes()[f2][c2];
-            asignaciones++;
-
-            cromosoma.getGenes()[f2][c2] = temp;
-            asignaciones++;
-
-            // Recalcular fitness después de la mutación
-            cromosoma.calcularFitness();
-            asignaciones++;
-
-            int fitnessDespues = cromosoma.getFitness();
+            // Evaluar el intercambio revisando solo los lados afectados
+            int delta = cromosoma.deltaIntercambio(f1, c1, f2, c2);
+            metricas.sumarComparaciones(8);
+            int fitnessDespues = fitnessAntes + delta;
 
             // Mostrar información de la mutación con ID del individuo y piezas
-            System.out.println("\n[MUTACIÓN INTENTADA - INDIVIDUO #" + idIndividuo + "]");
-            System.out.println("  Posiciones: (" + f1 + "," + c1 + ") <-> (" + f2 + "," + c2 + ")");
-            System.out.println("Piezas intercambiadas:");
-            System.out.println("  Piezas: [" + pieza1Info + "] <-> [" + pieza2Info + "]");
-            System.out.println("  Fitness ANTES: " + fitnessAntes + " | Fitness DESPUÉS: " + fitnessDespues);
+            if (mostrarProceso) {
+                Pieza original1 = almacen.getPieza(cromosoma.getId(f1, c1));
+                Pieza original2 = almacen.getPieza(cromosoma.getId(f2, c2));
+                String pieza1Info = original1.getArriba() + "-" + original1.getDerecha() + "-" + 
+                                   original1.getAbajo() + "-" + original1.getIzquierda();
+                String pieza2Info = original2.getArriba() + "-" + original2.getDerecha() + "-" + 
+                                   original2.getAbajo() + "-" + original2.getIzquierda();
+
+                System.out.println("\n[MUTACIÓN INTENTADA - INDIVIDUO #" + idIndividuo + "]");
+                System.out.println("  Posiciones: (" + f1 + "," + c1 + ") <-> (" + f2 + "," + c2 + ")");
+                System.out.println("Piezas intercambiadas:");
+                System.out.println("  Piezas: [" + pieza1Info + "] <-> [" + pieza2Info + "]");
+                System.out.println("  Fitness ANTES: " + fitnessAntes + " | Fitness DESPUÉS: " + fitnessDespues);
+            }
 
-            // Si el fitness empeora, descartar el cambio
+            // Si el fitness empeora, descartar el cambio (no se llega a aplicar)
+            metricas.incrementarComparaciones();
             if (fitnessDespues < fitnessAntes) {
-                cromosoma.getGenes()[f1][c1] = original1;
-                asignaciones++;
-                cromosoma.getGenes()[f2][c2] = original2;
-                asignaciones++;
-                cromosoma.calcularFitness();
-                asignaciones++;
-                System.out.println("  No mejora ");
-            } else if (fitnessDespues > fitnessAntes) {
+                if (mostrarProceso) {
+                    System.out.println("  No mejora ");
+                }
+                return;
+            }
+
+            // Realizar el intercambio y actualizar el fitness con la diferencia
+            cromosoma.aplicarIntercambio(f1, c1, f2, c2, delta);
+            metricas.sumarAsignaciones(4);
+
+            if (mostrarProceso && fitnessDespues > fitnessAntes) {
                 System.out.println("  Si mejora");
-            } else {
+            } else if (mostrarProceso) {
                 System.out.println("  No hay cambios");
             }
         }
@@ -492,20 +874,38 @@ public class Genetico {
     /**
      * Detecta si hay cromosomas duplicados en la población.
      * Dos cromosomas son iguales si tienen el mismo fitness y la misma configuración.
+     * Se agrupan por hash en una sola pasada y solo se comparan celda por celda
+     * los que coinciden en hash.
      * @param poblacion Lista de cromosomas.
      * @return true si hay duplicados, false en caso contrario.
      */
     private boolean detectarDuplicados(ArrayList<Cromosoma> poblacion) {
-        for (int i = 0; i < poblacion.size(); i++) {
-            for (int j = i + 1; j < poblacion.size(); j++) {
-                comparaciones++;
-                if (sonIguales(poblacion.get(i), poblacion.get(j))) {
-                    return true;
-                }
+        HashMap<Long, ArrayList<Cromosoma>> vistos = new HashMap<>();
+        for (Cromosoma cromosoma : poblacion) {
+            if (!registrarSiEsNuevo(cromosoma, vistos)) {
+                return true;
             }
         }
         return false;
     }
+
+    /**
+     * Registra un cromosoma en la tabla de vistos si no hay otro igual.
+     * @param cromosoma Cromosoma a registrar.
+     * @param vistos Cromosomas ya vistos agrupados por hash.
+     * @return true si es nuevo, false si ya había uno igual (clon).
+     */
+    private boolean registrarSiEsNuevo(Cromosoma cromosoma, HashMap<Long, ArrayList<Cromosoma>> vistos) {
+        ArrayList<Cromosoma> mismoHash = vistos.computeIfAbsent(cromosoma.getHash(), h -> new ArrayList<>());
+        metricas.incrementarComparaciones();
+        for (Cromosoma otro : mismoHash) {
+            if (sonIguales(cromosoma, otro)) {
+                return false;
+            }
+        }
+        mismoHash.add(cromosoma);
+        return true;
+    }
     
     /**
      * Verifica si dos cromosomas son idénticos.
@@ -514,23 +914,24 @@ public class Genetico {
      * @return true si son iguales, false en caso contrario.
      */
     private boolean sonIguales(Cromosoma c1, Cromosoma c2) {
-        Pieza[][] genes1 = c1.getGenes();
-        Pieza[][] genes2 = c2.getGenes();
+        int[] ids1 = c1.getIds();
+        int[] ids2 = c2.getIds();
         
-        comparaciones++;
+        metricas.incrementarComparaciones();
         if (c1.getFitness() != c2.getFitness()) {
             return false;
         }
         
-        for (int i = 0; i < tamañoTablero; i++) {
-            for (int j = 0; j < tamañoTablero; j++) {
-                comparaciones++;
-                if (genes1[i][j].getArriba() != genes2[i][j].getArriba() ||
-                    genes1[i][j].getDerecha() != genes2[i][j].getDerecha() ||
-                    genes1[i][j].getAbajo() != genes2[i][j].getAbajo() ||
-                    genes1[i][j].getIzquierda() != genes2[i][j].getIzquierda()) {
-                    return false;
-                }
+        // Se comparan los lados: dos piezas repetidas en la misma celda dan el mismo tablero
+        for (int pos = 0; pos < ids1.length; pos++) {
+            metricas.incrementarComparaciones();
+            int id1 = ids1[pos];
+            int id2 = ids2[pos];
+            if (almacen.getArriba(id1) != almacen.getArriba(id2) ||
+                almacen.getDerecha(id1) != almacen.getDerecha(id2) ||
+                almacen.getAbajo(id1) != almacen.getAbajo(id2) ||
+                almacen.getIzquierda(id1) != almacen.getIzquierda(id2)) {
+                return false;
             }
         }
         return true;
@@ -538,7 +939,8 @@ public class Genetico {
     
     /**
      * Selecciona los N mejores cromosomas de una población.
-     * Ordena por fitness y retorna los mejores N individuos.
+     * Ordena por fitness y retorna los mejores N individuos distintos; los clones
+     * solo se usan si no hay suficientes individuos distintos.
      * @param poblacion Lista de cromosomas.
      * @param cantidad Cantidad de mejores a seleccionar.
      * @return Lista de los mejores cromosomas seleccionados.
@@ -549,16 +951,30 @@ public class Genetico {
         Collections.sort(ordenada, new Comparator<Cromosoma>() {
             @Override
             public int compare(Cromosoma c1, Cromosoma c2) {
-                comparaciones++;
+                metricas.incrementarComparaciones();
                 return Integer.compare(c2.getFitness(), c1.getFitness());
             }
         });
         
-        // Retornar solo los mejores N
+        // Retornar solo los mejores N, descartando clones por hash
         ArrayList<Cromosoma> mejores = new ArrayList<>();
-        for (int i = 0; i < cantidad && i < ordenada.size(); i++) {
-            mejores.add(ordenada.get(i));
-            asignaciones++;
+        ArrayList<Cromosoma> clones = new ArrayList<>();
+        HashMap<Long, ArrayList<Cromosoma>> vistos = new HashMap<>();
+        for (int i = 0; mejores.size() < cantidad && i < ordenada.size(); i++) {
+            Cromosoma cromosoma = ordenada.get(i);
+            if (registrarSiEsNuevo(cromosoma, vistos)) {
+                mejores.add(cromosoma);
+            } else {
+                clones.add(cromosoma);
+            }
+            metricas.incrementarAsignaciones();
+        }
+
+        // Completar con clones si no alcanzan los individuos distintos
+        clonesDescartados = clones.size();
+        for (int i = 0; mejores.size() < cantidad && i < clones.size(); i++) {
+            mejores.add(clones.get(i));
+            metricas.incrementarAsignaciones();
         }
         
         return mejores;
@@ -0,0 +1,369 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Clase que implementa el Algoritmo Genético con modelo de islas.
+ * Cada isla es un Genetico con su propia población que evoluciona en su propio hilo.
+ * Cada cierta cantidad de generaciones (intervalo de migración) las islas se sincronizan
+ * y envían copias de sus mejores individuos a sus vecinas según la topología:
+ * - ANILLO: cada isla envía a la siguiente.
+ * - COMPLETA: cada isla envía a todas las demás.
+ * Los migrantes reemplazan a los peores individuos de la isla que los recibe.
+ *
+ * Todas las islas se detienen en cuanto alguna encuentra la solución perfecta.
+ * Cada isla usa una semilla derivada en orden de la semilla principal; la migración se
+ * hace en el hilo principal, por lo que sin solución perfecta el resultado es reproducible.
+ * Implementa Resolvedor: los hijos de todas las islas cuentan como nodos del presupuesto.
+ *
+ * @autor Jeremy Montero
+ * @version 1.0
+ */
+public class GeneticoIslas implements Resolvedor {
+
+    /**
+     * Topología de migración entre islas.
+     */
+    public enum Topologia {
+        ANILLO,
+        COMPLETA
+    }
+
+    private Genetico[] islas;
+    private int maxGeneraciones;
+    private int intervaloMigracion;
+    private int cantidadMigrantes;
+    private Topologia topologia;
+    private long semilla;
+
+    // Estado compartido entre islas
+    private AtomicBoolean solucionEncontrada;
+    private AtomicReference<Cromosoma> solucion;
+    private int islaSolucion;
+
+    // Generaciones ejecutadas por cada isla
+    private int[] generaciones;
+
+    // Resultado de la última ejecución
+    private ResultadoEjecucion resultado;
+
+    // Presupuesto de la ejecución y si se imprime el reporte al terminar
+    private Presupuesto presupuesto;
+    private boolean mostrarResultados;
+
+    /**
+     * Constructor con los valores por defecto: una isla por procesador (al menos dos),
+     * migración en anillo de los 2 mejores cada 5 generaciones.
+     * @param tamañoTablero Tamaño del tablero (tamaño x tamaño).
+     * @param piezasBase Lista de piezas base para crear las poblaciones.
+     * @param semilla Semilla del generador de números aleatorios.
+     */
+    public GeneticoIslas(int tamañoTablero, ArrayList<Pieza> piezasBase, long semilla) {
+        this(tamañoTablero, piezasBase, semilla, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor con una cantidad de islas fija y los demás valores por defecto. Con la misma semilla
+     * y cantidad de islas el resultado no depende de la máquina.
+     * @param tamañoTablero Tamaño del tablero (tamaño x tamaño).
+     * @param piezasBase Lista de piezas base para crear las poblaciones.
+     * @param semilla Semilla del generador de números aleatorios.
+     * @param cantidadIslas Cantidad de islas (una por hilo, al menos dos).
+     */
+    public GeneticoIslas(int tamañoTablero, ArrayList<Pieza> piezasBase, long semilla, int cantidadIslas) {
+        this(tamañoTablero, Genetico.calcularPoblacionInicial(tamañoTablero), 10, 0.75, piezasBase, semilla,
+             Math.max(2, cantidadIslas), 5, 2, Topologia.ANILLO);
+    }
+
+    /**
+     * Constructor.
+     * @param tamañoTablero Tamaño del tablero (tamaño x tamaño).
+     * @param poblacionPorIsla Tamaño de la población de cada isla.
+     * @param maxGeneraciones Máximo de generaciones a ejecutar.
+     * @param probMutacion Probabilidad de mutación.
+     * @param piezasBase Lista de piezas base para crear las poblaciones.
+     * @param semilla Semilla del generador de números aleatorios.
+     * @param cantidadIslas Cantidad de islas (una por hilo).
+     * @param intervaloMigracion Generaciones entre cada migración.
+     * @param cantidadMigrantes Cantidad de mejores individuos que envía cada isla.
+     * @param topologia Topología de migración.
+     */
+    public GeneticoIslas(int tamañoTablero, int poblacionPorIsla, int maxGeneraciones, double probMutacion,
+                         ArrayList<Pieza> piezasBase, long semilla, int cantidadIslas,
+                         int intervaloMigracion, int cantidadMigrantes, Topologia topologia) {
+        this.maxGeneraciones = maxGeneraciones;
+        this.intervaloMigracion = Math.max(1, intervaloMigracion);
+        this.cantidadMigrantes = cantidadMigrantes;
+        this.topologia = topologia;
+        this.semilla = semilla;
+
+        // Cada isla recibe una semilla derivada en orden de la principal
+        SplittableRandom raiz = new SplittableRandom(semilla);
+        this.islas = new Genetico[Math.max(1, cantidadIslas)];
+        for (int i = 0; i < islas.length; i++) {
+            islas[i] = new Genetico(tamañoTablero, poblacionPorIsla, maxGeneraciones, probMutacion,
+                                    piezasBase, raiz.nextLong(), 1);
+            islas[i].setMostrarProceso(false);
+        }
+
+        this.solucionEncontrada = new AtomicBoolean(false);
+        this.solucion = new AtomicReference<>();
+        this.generaciones = new int[islas.length];
+        this.presupuesto = Presupuesto.sinLimite();
+        this.mostrarResultados = true;
+    }
+
+    /**
+     * Activa o desactiva la impresión del reporte y del tablero al terminar.
+     * @param mostrarResultados true para imprimir.
+     */
+    @Override
+    public void setMostrarResultados(boolean mostrarResultados) {
+        this.mostrarResultados = mostrarResultados;
+    }
+
+    // Getters para medidas empíricas (suma de todas las islas)
+    public long getComparaciones() {
+        long total = 0;
+        for (Genetico isla : islas) {
+            total += isla.getComparaciones();
+        }
+        return total;
+    }
+    public long getAsignaciones() {
+        long total = 0;
+        for (Genetico isla : islas) {
+            total += isla.getAsignaciones();
+        }
+        return total;
+    }
+    public long getInstrucciones() {
+        return getComparaciones() + getAsignaciones();
+    }
+    public long getAlternativas() {
+        long total = 0;
+        for (Genetico isla : islas) {
+            total += isla.getAlternativas();
+        }
+        return total;
+    }
+    public long getPodas() {
+        long total = 0;
+        for (Genetico isla : islas) {
+            total += isla.getPodas();
+        }
+        return total;
+    }
+
+    /**
+     * Ejecuta el algoritmo genético en todas las islas.
+     * Mide el tiempo de ejecución y reporta estadísticas detalladas.
+     */
+    public void ejecutar() {
+        resolver(Presupuesto.sinLimite());
+    }
+
+    /**
+     * Ejecuta el algoritmo genético en todas las islas sin exceder el presupuesto;
+     * cada isla lo revisa al inicio de cada generación.
+     * @param presupuesto Tiempo y nodos (hijos generados) máximos, y cancelación.
+     * @return Resultado con la solución o el mejor cromosoma entre todas las islas.
+     */
+    @Override
+    public ResultadoEjecucion resolver(Presupuesto presupuesto) {
+        this.presupuesto = presupuesto;
+        this.solucionEncontrada.set(false);
+        this.solucion.set(null);
+        Arrays.fill(generaciones, 0);
+
+        MedicionMemoria medicion = MedicionMemoria.iniciar(true, presupuesto.isMedirMemoria());
+
+        long inicio = System.nanoTime();
+        presupuesto.iniciar();
+
+        ExecutorService pool = Executors.newFixedThreadPool(islas.length);
+        try {
+            int gen = 0;
+            while (gen < maxGeneraciones && !solucionEncontrada.get() && !presupuesto.isAgotado()) {
+
+                // Evolucionar todas las islas hasta la siguiente migración
+                int epoca = Math.min(intervaloMigracion, maxGeneraciones - gen);
+                ArrayList<Callable<Void>> tareas = new ArrayList<>();
+                for (int i = 0; i < islas.length; i++) {
+                    int isla = i;
+                    tareas.add(() -> {
+                        evolucionarIsla(isla, epoca);
+                        return null;
+                    });
+                }
+                esperar(pool.invokeAll(tareas));
+                gen += epoca;
+
+                if (!solucionEncontrada.get() && !presupuesto.isAgotado() && islas.length > 1) {
+                    migrar();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ejecución de las islas interrumpida", e);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Mejor individuo entre todas las islas
+        int mejorIsla = islaSolucion;
+        Cromosoma mejorGlobal = solucion.get();
+        if (mejorGlobal == null) {
+            for (int i = 0; i < islas.length; i++) {
+                Cromosoma mejor = islas[i].ordenarYObtenerMejor();
+                if (mejorGlobal == null || mejor.getFitness() > mejorGlobal.getFitness()) {
+                    mejorGlobal = mejor;
+                    mejorIsla = i;
+                }
+            }
+        }
+
+        // El hijo perfecto de la última generación no lo ve ninguna isla antes de terminar
+        boolean perfecta = mejorGlobal.getFitness() == islas[0].getFitnessMaximo();
+
+        long fin = System.nanoTime();
+        medicion.detener();
+        resultado = new ResultadoEjecucion("Algoritmo Genético (Islas)", perfecta,
+                                           presupuesto.isAgotado(), mejorGlobal.aTablero(), mejorGlobal.getFitness(),
+                                           islas[0].getFitnessMaximo(), fin - inicio,
+                                           medicion.getBytesAsignados(), medicion.getPicoHeapUsado(),
+                                           getComparaciones(), getAsignaciones(), getAlternativas(), getPodas());
+
+        if (mostrarResultados) {
+            imprimirResultados(mejorGlobal, mejorIsla, perfecta);
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene el resultado estructurado de la última ejecución.
+     * @return Resultado, o null si aún no se ha ejecutado.
+     */
+    public ResultadoEjecucion getResultado() {
+        return resultado;
+    }
+
+    /**
+     * Evoluciona una isla durante varias generaciones o hasta que alguna isla
+     * encuentre la solución perfecta o se agote el presupuesto.
+     * @param indice Índice de la isla.
+     * @param cantidad Cantidad de generaciones a ejecutar.
+     */
+    private void evolucionarIsla(int indice, int cantidad) {
+        Genetico isla = islas[indice];
+        int maxFitness = isla.getFitnessMaximo();
+
+        for (int g = 0; g < cantidad; g++) {
+            if (solucionEncontrada.get() || presupuesto.registrarNodos(isla.getHijosPorGeneracion())) {
+                return;
+            }
+
+            Cromosoma mejor = isla.ordenarYObtenerMejor();
+            if (mejor.getFitness() == maxFitness) {
+                if (solucion.compareAndSet(null, mejor)) {
+                    islaSolucion = indice;
+                    solucionEncontrada.set(true);
+                }
+                return;
+            }
+
+            isla.evolucionar(null);
+            generaciones[indice]++;
+        }
+    }
+
+    /**
+     * Envía los mejores individuos de cada isla a sus vecinas según la topología.
+     * Primero se obtienen todos los migrantes y luego se entregan, de modo que
+     * ninguna isla reenvía individuos recibidos en la misma migración.
+     */
+    private void migrar() {
+        ArrayList<ArrayList<Cromosoma>> recibidos = new ArrayList<>();
+        for (int i = 0; i < islas.length; i++) {
+            recibidos.add(new ArrayList<>());
+        }
+
+        for (int origen = 0; origen < islas.length; origen++) {
+            if (topologia == Topologia.ANILLO) {
+                recibidos.get((origen + 1) % islas.length).addAll(islas[origen].getMigrantes(cantidadMigrantes));
+            } else {
+                for (int destino = 0; destino < islas.length; destino++) {
+                    if (destino != origen) {
+                        recibidos.get(destino).addAll(islas[origen].getMigrantes(cantidadMigrantes));
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < islas.length; i++) {
+            islas[i].recibirMigrantes(recibidos.get(i));
+        }
+    }
+
+    /**
+     * Espera a que terminen las tareas de las islas y propaga sus errores.
+     * @param resultados Resultados de las tareas.
+     * @throws InterruptedException Si el hilo principal es interrumpido.
+     */
+    private void esperar(List<Future<Void>> resultados) throws InterruptedException {
+        try {
+            for (Future<Void> resultado : resultados) {
+                resultado.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al evolucionar una isla", e.getCause());
+        }
+    }
+
+    /**
+     * Imprime los resultados de la ejecución.
+     * @param mejor Mejor cromosoma encontrado.
+     * @param mejorIsla Isla donde se encontró el mejor cromosoma.
+     * @param perfecta true si el mejor cromosoma es una solución.
+     */
+    private void imprimirResultados(Cromosoma mejor, int mejorIsla, boolean perfecta) {
+
+        System.out.println("====== Algoritmo Genético (Islas) ======");
+        if (perfecta) {
+            System.out.println("Solución perfecta encontrada: " + perfecta);
+            System.out.println("Generación: " + generaciones[mejorIsla]);
+        } else {
+            System.out.println("No se encontró solución perfecta.");
+            System.out.println("Se muestra la mejor aproximación.");
+        }
+        if (presupuesto.isAgotado()) {
+            System.out.println("Ejecución detenida: " + presupuesto.getMotivo() + ".");
+        }
+        System.out.println("Fitness alcanzado: " + mejor.getFitness());
+        System.out.println("Islas: " + islas.length + " | Topología: " + topologia
+                           + " | Migración cada " + intervaloMigracion + " generaciones");
+        System.out.println("Semilla: " + semilla + " | Isla del mejor: " + (mejorIsla + 1));
+        System.out.println("Duración: " + String.format("%.3f s", resultado.getTiempoSegundos()));
+        resultado.imprimirMemoria();
+        System.out.println("Comparaciones: " + getComparaciones());
+        System.out.println("Asignaciones: " + getAsignaciones());
+        System.out.println("Instrucciones: " + getInstrucciones());
+        System.out.println("=======================================");
+        System.out.println(perfecta ? "Tablero solución:" : "Mejor tablero encontrado:");
+        mejor.imprimir();
+
+        System.out.println("\n--- Mejor individuo de cada isla ---");
+        for (int i = 0; i < islas.length; i++) {
+            System.out.println("Isla " + (i + 1) + " -> Fitness: " + islas[i].ordenarYObtenerMejor().getFitness());
+        }
+        System.out.println("---------------------------------------");
+    }
+}
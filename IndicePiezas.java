@@ -0,0 +1,154 @@
+import java.util.ArrayList;
+
+/**
+ * Clase auxiliar que indexa las piezas según los valores de sus lados.
+ * Permite obtener directamente las piezas que pueden encajar en una posición del tablero
+ * a partir de las restricciones de sus vecinas (arriba e izquierda), sin recorrer toda la lista.
+ * Las piezas se identifican por su posición (id) dentro de la lista original.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class IndicePiezas {
+
+    // Valor que indica que un lado no tiene restricción (primera fila o primera columna)
+    public static final int SIN_RESTRICCION = -1;
+
+    // Lados de una pieza
+    public static final int ARRIBA = 0;
+    public static final int DERECHA = 1;
+    public static final int ABAJO = 2;
+    public static final int IZQUIERDA = 3;
+
+    private static final int[] VACIO = new int[0];
+
+    private int valorMaximo;
+
+    // Listas de ids por clave (arriba, izquierda) y por el valor de cada lado
+    private int[][] porArribaIzquierda;
+    private int[][][] porLado;
+    private int[] todas;
+
+    /**
+     * Constructor que construye el índice a partir de la lista de piezas.
+     * @param piezas Lista de piezas a indexar.
+     */
+    public IndicePiezas(ArrayList<Pieza> piezas) {
+        this.valorMaximo = 0;
+        for (Pieza pieza : piezas) {
+            for (int lado = ARRIBA; lado <= IZQUIERDA; lado++) {
+                valorMaximo = Math.max(valorMaximo, valorLado(pieza, lado));
+            }
+        }
+        int rango = valorMaximo + 1;
+
+        // Primera pasada: contar cuántas piezas corresponden a cada clave
+        int[] cantidadArribaIzquierda = new int[rango * rango];
+        int[][] cantidadLado = new int[4][rango];
+        for (Pieza pieza : piezas) {
+            cantidadArribaIzquierda[pieza.getArriba() * rango + pieza.getIzquierda()]++;
+            for (int lado = ARRIBA; lado <= IZQUIERDA; lado++) {
+                cantidadLado[lado][valorLado(pieza, lado)]++;
+            }
+        }
+
+        this.porArribaIzquierda = crearListas(cantidadArribaIzquierda);
+        this.porLado = new int[4][][];
+        for (int lado = ARRIBA; lado <= IZQUIERDA; lado++) {
+            porLado[lado] = crearListas(cantidadLado[lado]);
+        }
+        this.todas = new int[piezas.size()];
+
+        // Segunda pasada: llenar las listas respetando el orden original de las piezas
+        int[] llenoArribaIzquierda = new int[rango * rango];
+        int[][] llenoLado = new int[4][rango];
+        for (int id = 0; id < piezas.size(); id++) {
+            Pieza pieza = piezas.get(id);
+            int clave = pieza.getArriba() * rango + pieza.getIzquierda();
+            porArribaIzquierda[clave][llenoArribaIzquierda[clave]++] = id;
+            for (int lado = ARRIBA; lado <= IZQUIERDA; lado++) {
+                int valor = valorLado(pieza, lado);
+                porLado[lado][valor][llenoLado[lado][valor]++] = id;
+            }
+            todas[id] = id;
+        }
+    }
+
+    /**
+     * Obtiene el valor de un lado de la pieza.
+     * @param pieza Pieza a consultar.
+     * @param lado Lado (ARRIBA, DERECHA, ABAJO o IZQUIERDA).
+     * @return Valor del lado indicado.
+     */
+    public static int valorLado(Pieza pieza, int lado) {
+        switch (lado) {
+            case ARRIBA:  return pieza.getArriba();
+            case DERECHA: return pieza.getDerecha();
+            case ABAJO:   return pieza.getAbajo();
+            default:      return pieza.getIzquierda();
+        }
+    }
+
+    /**
+     * Crea un arreglo de listas con las capacidades indicadas.
+     * @param cantidades Cantidad de elementos de cada lista.
+     * @return Arreglo de listas vacías con el tamaño exacto.
+     */
+    private static int[][] crearListas(int[] cantidades) {
+        int[][] listas = new int[cantidades.length][];
+        for (int i = 0; i < cantidades.length; i++) {
+            listas[i] = cantidades[i] == 0 ? VACIO : new int[cantidades[i]];
+        }
+        return listas;
+    }
+
+    /**
+     * Obtiene los ids de las piezas cuyos lados coinciden con las restricciones dadas.
+     * Si un lado no tiene restricción se usa SIN_RESTRICCION.
+     * El arreglo retornado es compartido y no debe modificarse.
+     * @param arriba Valor requerido en el lado superior, o SIN_RESTRICCION.
+     * @param izquierda Valor requerido en el lado izquierdo, o SIN_RESTRICCION.
+     * @return Arreglo con los ids de las piezas candidatas.
+     */
+    public int[] candidatos(int arriba, int izquierda) {
+        if (arriba > valorMaximo || izquierda > valorMaximo) {
+            return VACIO;
+        }
+        if (arriba == SIN_RESTRICCION) {
+            return izquierda == SIN_RESTRICCION ? todas : porLado[IZQUIERDA][izquierda];
+        }
+        if (izquierda == SIN_RESTRICCION) {
+            return porLado[ARRIBA][arriba];
+        }
+        return porArribaIzquierda[arriba * (valorMaximo + 1) + izquierda];
+    }
+
+    /**
+     * Obtiene los ids de las piezas que tienen un valor dado en uno de sus lados.
+     * El arreglo retornado es compartido y no debe modificarse.
+     * @param lado Lado a consultar (ARRIBA, DERECHA, ABAJO o IZQUIERDA).
+     * @param valor Valor requerido en ese lado.
+     * @return Arreglo con los ids de las piezas que cumplen la condición.
+     */
+    public int[] porLado(int lado, int valor) {
+        if (valor < 0 || valor > valorMaximo) {
+            return VACIO;
+        }
+        return porLado[lado][valor];
+    }
+
+    /**
+     * Obtiene los ids de todas las piezas indexadas.
+     * @return Arreglo con todos los ids.
+     */
+    public int[] todas() {
+        return todas;
+    }
+
+    /**
+     * Obtiene el valor máximo encontrado en los lados indexados.
+     * @return Valor máximo.
+     */
+    public int getValorMaximo() {
+        return valorMaximo;
+    }
+}
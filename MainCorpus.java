@@ -0,0 +1,160 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/************************Datos administrativos****************************
+ * Nombre del proyecto: Análisis de Algoritmos - Armado de Rombecabezas
+ * Archivo: MainCorpus.java
+ * Autor: Melany Jirón y Jeremy Montero
+ * Empresa: Instituto Tecnológico de Costa Rica
+ * ******************************Descripción*****************************
+ * Genera un corpus reproducible de rompecabezas en archivos binarios.
+ * ******************************Versión*********************************
+ * 1.0 | 2026-30-01 | Melany Jirón Díaz y Jeremy Montero
+ ************************************************************************/
+
+/**
+ * Generador del corpus de instancias: guarda un archivo .rmp (ArchivoRompecabezas) por cada
+ * combinación de tamaño, rango y semilla, generado con Piezas(tamaño, rango, semilla).
+ * Con --verificar vuelve a cargar cada archivo y lo compara con la instancia generada.
+ * Los archivos que ya existen no se reemplazan, salvo con --reemplazar.
+ *
+ * Uso:
+ *   java MainCorpus [opciones]
+ *     --directorio dir                  (por defecto corpus)
+ *     --tamaños 3,5,10                  (por defecto 3,5,10,15,30)
+ *     --rangos 9,15                     (por defecto 9,15)
+ *     --semillas 1,2,3                  (por defecto 1,2,3)
+ *     --reemplazar                      (vuelve a generar los archivos existentes)
+ *     --verificar                       (compara cada archivo con la instancia generada)
+ *
+ * @autor Melany Jirón Díaz y Jeremy Montero
+ * @version 1.0
+ */
+public class MainCorpus {
+
+    private Path directorio = Paths.get("corpus");
+    private int[] tamaños = {3, 5, 10, 15, 30};
+    private int[] rangos = {9, 15};
+    private int[] semillas = {1, 2, 3};
+    private boolean reemplazar = false;
+    private boolean verificar = false;
+
+    /**
+     * Método principal: lee las opciones y genera el corpus.
+     */
+    public static void main(String[] args) {
+        MainCorpus corpus = new MainCorpus();
+        try {
+            corpus.leerOpciones(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Uso: java MainCorpus [--directorio dir] [--tamaños 3,5] [--rangos 9,15]"
+                               + " [--semillas 1,2] [--reemplazar] [--verificar]");
+            System.exit(2);
+        }
+
+        try {
+            if (!corpus.generar()) {
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("Error al escribir el corpus: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Lee las opciones de la línea de comandos.
+     * @param args Argumentos del programa.
+     */
+    private void leerOpciones(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String opcion = args[i];
+            if (opcion.equals("--reemplazar")) {
+                reemplazar = true;
+                continue;
+            }
+            if (opcion.equals("--verificar")) {
+                verificar = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + opcion);
+            }
+            String valor = args[++i];
+            switch (opcion) {
+                case "--directorio":
+                    directorio = Paths.get(valor);
+                    break;
+                case "--tamaños":
+                case "--tamanos":
+                    tamaños = MainExperimentos.listaEnteros(valor);
+                    break;
+                case "--rangos":
+                    rangos = MainExperimentos.listaEnteros(valor);
+                    break;
+                case "--semillas":
+                    semillas = MainExperimentos.listaEnteros(valor);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opción desconocida: " + opcion);
+            }
+        }
+    }
+
+    /**
+     * Genera (y verifica, si se pidió) todos los archivos del corpus.
+     * @return false si algún archivo no coincide con su instancia.
+     * @throws IOException Si no se puede leer o escribir un archivo.
+     */
+    private boolean generar() throws IOException {
+        Files.createDirectories(directorio);
+        boolean correcto = true;
+        int generados = 0;
+        long bytes = 0;
+        for (int tamaño : tamaños) {
+            for (int rango : rangos) {
+                for (int semilla : semillas) {
+                    Path archivo = directorio.resolve(ArchivoRompecabezas.nombreArchivo(tamaño, rango, semilla));
+                    ArchivoRompecabezas instancia = null;
+                    if (reemplazar || !Files.exists(archivo)) {
+                        instancia = ArchivoRompecabezas.generar(tamaño, rango, semilla);
+                        instancia.escribir(archivo);
+                        generados++;
+                    }
+                    if (verificar) {
+                        if (instancia == null) {
+                            instancia = ArchivoRompecabezas.generar(tamaño, rango, semilla);
+                        }
+                        if (!iguales(instancia, ArchivoRompecabezas.leer(archivo))) {
+                            System.err.println("No coincide con la instancia generada: " + archivo);
+                            correcto = false;
+                        }
+                    }
+                    bytes += Files.size(archivo);
+                }
+            }
+        }
+        System.out.println("Corpus en " + directorio + ": " + generados + " archivos generados, "
+                           + (tamaños.length * rangos.length * semillas.length) + " en total, " + bytes + " bytes");
+        return correcto;
+    }
+
+    private static boolean iguales(ArchivoRompecabezas a, ArchivoRompecabezas b) {
+        if (a.getTamaño() != b.getTamaño() || a.getValorMaximo() != b.getValorMaximo()
+                || a.getSemilla() != b.getSemilla() || a.getPiezas().size() != b.getPiezas().size()) {
+            return false;
+        }
+        for (int i = 0; i < a.getPiezas().size(); i++) {
+            Pieza p = a.getPiezas().get(i);
+            Pieza q = b.getPiezas().get(i);
+            if (p.getArriba() != q.getArriba() || p.getDerecha() != q.getDerecha()
+                    || p.getAbajo() != q.getAbajo() || p.getIzquierda() != q.getIzquierda()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
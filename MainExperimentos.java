@@ -0,0 +1,338 @@
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/************************Datos administrativos****************************
+ * Nombre del proyecto: Análisis de Algoritmos - Armado de Rombecabezas
+ * Archivo: MainExperimentos.java
+ * Autor: Melany Jirón y Jeremy Montero
+ * Empresa: Instituto Tecnológico de Costa Rica
+ * ******************************Descripción*****************************
+ * Ejecutor de experimentos por lotes, sin interacción y con salida CSV o JSON.
+ * ******************************Versión*********************************
+ * 1.0 | 2026-30-01 | Melany Jirón Díaz y Jeremy Montero
+ ************************************************************************/
+
+/**
+ * Ejecutor de experimentos por lotes.
+ * Recorre la matriz de parámetros (algoritmos x tamaños x rangos x semillas x repeticiones)
+ * y escribe una fila por ejecución con el tiempo, los contadores, la memoria y la calidad
+ * de la solución. Las ejecuciones de calentamiento no se escriben.
+ * Cada instancia se genera con Piezas(tamaño, rango, semilla), por lo que es reproducible.
+ * Con --corpus las instancias se cargan de sus archivos .rmp (ArchivoRompecabezas) y solo se
+ * generan y guardan las que falten, así distintas versiones del proyecto usan las mismas piezas.
+ * Por defecto no se imprime ningún tablero.
+ *
+ * Uso:
+ *   java MainExperimentos [opciones]
+ *     --algoritmos fb,fbb,ar,fbp,ga,islas,portafolio   (por defecto fb,ar,ga)
+ *     --tamaños 3,5,10                  (por defecto 3,5,10,15,30)
+ *     --rangos 9,15                     (por defecto 9,15)
+ *     --semillas 1,2,3                  (por defecto 1)
+ *     --repeticiones N                  (por defecto 1)
+ *     --calentamiento N                 (ejecuciones no registradas por combinación, por defecto 0)
+ *     --limite-ms N                     (tiempo máximo por ejecución, 0 = sin límite; por defecto 10000)
+ *     --max-nodos N                     (nodos máximos por ejecución, 0 = sin límite)
+ *     --hilos N                         (hilos de fbp y ga, y cantidad de islas de islas (al menos 2);
+ *                                        por defecto todos los procesadores; portafolio usa un hilo por algoritmo)
+ *     --formato csv|json                (json = un objeto por línea; por defecto csv)
+ *     --salida archivo                  (por defecto la salida estándar)
+ *     --corpus dir                      (carga las instancias del corpus, ver MainCorpus)
+ *     --mostrar-tableros                (imprime los reportes y tableros de cada algoritmo)
+ *
+ * @autor Jeremy Montero y Melany Jirón Díaz
+ * @version 1.0
+ */
+public class MainExperimentos {
+
+    static final List<String> ALGORITMOS = Arrays.asList("fb", "fbb", "ar", "fbp", "ga", "islas", "portafolio");
+
+    private static final String[] COLUMNAS = {
+        "algoritmo", "tamano", "rango", "semilla", "repeticion", "solucion", "limite_alcanzado",
+        "fitness", "fitness_maximo", "tiempo_ms", "comparaciones", "asignaciones", "instrucciones",
+        "alternativas", "podas", "bytes_asignados", "pico_heap_usado_bytes"
+    };
+
+    // Parámetros del experimento
+    private String[] algoritmos = {"fb", "ar", "ga"};
+    private int[] tamaños = {3, 5, 10, 15, 30};
+    private int[] rangos = {9, 15};
+    private long[] semillas = {1};
+    private int repeticiones = 1;
+    private int calentamiento = 0;
+    private long limiteMs = 10000;
+    private long maxNodos = 0;
+    private int hilos = Runtime.getRuntime().availableProcessors();
+    private boolean json = false;
+    private String salida = null;
+    private Path corpus = null;
+    private boolean mostrarTableros = false;
+
+    /**
+     * Método principal: lee las opciones y ejecuta el experimento.
+     */
+    public static void main(String[] args) {
+        MainExperimentos experimento = new MainExperimentos();
+        try {
+            experimento.leerOpciones(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Uso: java MainExperimentos [--algoritmos fb,fbb,ar,fbp,ga,islas,portafolio] [--tamaños 3,5]"
+                               + " [--rangos 9,15] [--semillas 1,2] [--repeticiones N] [--calentamiento N]"
+                               + " [--limite-ms N] [--max-nodos N] [--hilos N] [--formato csv|json] [--salida archivo]"
+                               + " [--corpus dir] [--mostrar-tableros]");
+            System.exit(2);
+        }
+
+        try {
+            experimento.ejecutar();
+        } catch (IOException e) {
+            System.err.println("Error de entrada o salida: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Lee las opciones de la línea de comandos.
+     * @param args Argumentos del programa.
+     */
+    private void leerOpciones(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String opcion = args[i];
+            if (opcion.equals("--mostrar-tableros")) {
+                mostrarTableros = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + opcion);
+            }
+            String valor = args[++i];
+            switch (opcion) {
+                case "--algoritmos":
+                    algoritmos = valor.split(",");
+                    for (String algoritmo : algoritmos) {
+                        if (!ALGORITMOS.contains(algoritmo)) {
+                            throw new IllegalArgumentException("Algoritmo desconocido: " + algoritmo);
+                        }
+                    }
+                    break;
+                case "--tamaños":
+                case "--tamanos":
+                    tamaños = listaEnteros(valor);
+                    break;
+                case "--rangos":
+                    rangos = listaEnteros(valor);
+                    break;
+                case "--semillas":
+                    int[] valores = listaEnteros(valor);
+                    semillas = new long[valores.length];
+                    for (int k = 0; k < valores.length; k++) {
+                        semillas[k] = valores[k];
+                    }
+                    break;
+                case "--repeticiones":
+                    repeticiones = entero(valor, 1);
+                    break;
+                case "--calentamiento":
+                    calentamiento = entero(valor, 0);
+                    break;
+                case "--limite-ms":
+                    limiteMs = largo(valor);
+                    break;
+                case "--max-nodos":
+                    maxNodos = largo(valor);
+                    break;
+                case "--hilos":
+                    hilos = entero(valor, 1);
+                    break;
+                case "--formato":
+                    if (!valor.equals("csv") && !valor.equals("json")) {
+                        throw new IllegalArgumentException("Formato desconocido: " + valor);
+                    }
+                    json = valor.equals("json");
+                    break;
+                case "--salida":
+                    salida = valor;
+                    break;
+                case "--corpus":
+                    corpus = Paths.get(valor);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opción desconocida: " + opcion);
+            }
+        }
+    }
+
+    static int[] listaEnteros(String valor) {
+        String[] partes = valor.split(",");
+        int[] enteros = new int[partes.length];
+        for (int i = 0; i < partes.length; i++) {
+            enteros[i] = entero(partes[i], 0);
+        }
+        return enteros;
+    }
+
+    static long largo(String valor) {
+        try {
+            long numero = Long.parseLong(valor.trim());
+            if (numero < 0) {
+                throw new IllegalArgumentException("El valor " + valor + " debe ser al menos 0");
+            }
+            return numero;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido: " + valor);
+        }
+    }
+
+    static int entero(String valor, int minimo) {
+        try {
+            int numero = Integer.parseInt(valor.trim());
+            if (numero < minimo) {
+                throw new IllegalArgumentException("El valor " + valor + " debe ser al menos " + minimo);
+            }
+            return numero;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido: " + valor);
+        }
+    }
+
+    /**
+     * Ejecuta todas las combinaciones y escribe una fila por ejecución registrada.
+     * @throws IOException Si no se puede escribir la salida.
+     */
+    private void ejecutar() throws IOException {
+        PrintWriter escritor = salida == null
+            ? new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+            : new PrintWriter(new OutputStreamWriter(new FileOutputStream(salida), StandardCharsets.UTF_8));
+        try {
+            if (!json) {
+                escritor.println(String.join(",", COLUMNAS));
+            }
+            for (int tamaño : tamaños) {
+                for (int rango : rangos) {
+                    for (long semilla : semillas) {
+                        ArrayList<Pieza> piezas = corpus == null
+                            ? new Piezas(tamaño, rango, semilla).getPiezas()
+                            : ArchivoRompecabezas.cargarOGenerar(corpus, tamaño, rango, semilla).getPiezas();
+                        for (String algoritmo : algoritmos) {
+                            for (int c = 0; c < calentamiento; c++) {
+                                ejecutar(algoritmo, piezas, tamaño, semilla);
+                            }
+                            for (int r = 1; r <= repeticiones; r++) {
+                                ResultadoEjecucion resultado = ejecutar(algoritmo, piezas, tamaño, semilla);
+                                escribirFila(escritor, algoritmo, tamaño, rango, semilla, r, resultado);
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            escritor.flush();
+            if (salida != null) {
+                escritor.close();
+            }
+        }
+    }
+
+    /**
+     * Ejecuta una vez un algoritmo sobre una instancia con el presupuesto y la impresión configurados.
+     * @param algoritmo Nombre corto del algoritmo.
+     * @param piezas Piezas de la instancia.
+     * @param tamaño Tamaño del tablero.
+     * @param semilla Semilla para los algoritmos aleatorios.
+     * @return Resultado de la ejecución.
+     */
+    private ResultadoEjecucion ejecutar(String algoritmo, ArrayList<Pieza> piezas, int tamaño, long semilla) {
+        Resolvedor resolvedor = crearResolvedor(algoritmo, piezas, tamaño, semilla, hilos);
+        resolvedor.setMostrarResultados(mostrarTableros);
+        return resolvedor.resolver(new Presupuesto(limiteMs, maxNodos));
+    }
+
+    /**
+     * Crea el algoritmo indicado por su nombre corto.
+     * @param algoritmo Nombre corto del algoritmo.
+     * @param piezas Piezas de la instancia.
+     * @param tamaño Tamaño del tablero.
+     * @param semilla Semilla para los algoritmos aleatorios.
+     * @param hilos Hilos de fbp y ga, y cantidad de islas de islas.
+     * @return Algoritmo listo para resolver.
+     */
+    static Resolvedor crearResolvedor(String algoritmo, ArrayList<Pieza> piezas, int tamaño, long semilla, int hilos) {
+        switch (algoritmo) {
+            case "fb":
+                return new FuerzaBruta(piezas, tamaño);
+            case "fbb":
+                return new FuerzaBrutaBits(piezas, tamaño);
+            case "ar":
+                return new AvanceRapido(piezas, tamaño);
+            case "fbp":
+                return new FuerzaBrutaParalela(piezas, tamaño, 2, hilos);
+            case "ga":
+                return new Genetico(tamaño, piezas, semilla, hilos);
+            case "islas":
+                return new GeneticoIslas(tamaño, piezas, semilla, hilos);
+            case "portafolio":
+                return new Portafolio(piezas, tamaño, semilla);
+            default:
+                throw new IllegalArgumentException("Algoritmo desconocido: " + algoritmo);
+        }
+    }
+
+    /**
+     * Escribe la fila de una ejecución en CSV o JSON.
+     * En JSON solo los textos van entre comillas; el tiempo se escribe con 3 decimales y punto decimal.
+     */
+    private void escribirFila(PrintWriter escritor, String algoritmo, int tamaño, int rango, long semilla,
+                              int repeticion, ResultadoEjecucion r) {
+        Object[] valores = {
+            algoritmo, tamaño, rango, semilla, repeticion, r.isSolucionEncontrada(), r.isLimiteAlcanzado(),
+            r.getFitness(), r.getFitnessMaximo(), r.getTiempoNanos() / 1e6,
+            r.getComparaciones(), r.getAsignaciones(), r.getInstrucciones(), r.getAlternativas(), r.getPodas(),
+            r.getBytesAsignados(), r.getPicoHeapUsado()
+        };
+
+        StringBuilder fila = new StringBuilder();
+        if (json) {
+            fila.append('{');
+            for (int i = 0; i < COLUMNAS.length; i++) {
+                if (i > 0) {
+                    fila.append(',');
+                }
+                fila.append('"').append(COLUMNAS[i]).append("\":");
+                if (valores[i] instanceof String) {
+                    fila.append('"').append(valores[i]).append('"');
+                } else {
+                    fila.append(formatear(valores[i]));
+                }
+            }
+            fila.append('}');
+        } else {
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    fila.append(',');
+                }
+                fila.append(formatear(valores[i]));
+            }
+        }
+        escritor.println(fila);
+        escritor.flush();
+    }
+
+    /**
+     * Escribe un valor de la fila; los decimales con 3 cifras y punto decimal (Locale.ROOT).
+     */
+    private static String formatear(Object valor) {
+        if (valor instanceof Double) {
+            return String.format(Locale.ROOT, "%.3f", (Double) valor);
+        }
+        return String.valueOf(valor);
+    }
+}
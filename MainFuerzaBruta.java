@@ -75,6 +75,11 @@ public class MainFuerzaBruta {
         // Resolver con Fuerza Bruta
         FuerzaBruta fuerzaBruta = new FuerzaBruta(piezas, tamaño);
         boolean solucion = fuerzaBruta.resolver();
+        System.out.println();
+
+        // Resolver con Fuerza Bruta paralela (ForkJoinPool) sobre las mismas piezas
+        FuerzaBrutaParalela fuerzaBrutaParalela = new FuerzaBrutaParalela(piezas, tamaño);
+        fuerzaBrutaParalela.resolver();
 
         // Resultado
         if (!solucion) {
@@ -26,17 +26,6 @@ import java.util.ArrayList;
  * @version 1.0
  */
 public class MainGeneral {
-    
-    /**
-     * Reinicia todas las piezas marcándolas como no usadas.
-     * Ya que los 3 algoritmos utilizan la misma lista de piezas.
-     * @param piezas Lista de piezas a reinicializar.
-     */
-    private static void reinicializarPiezas(ArrayList<Pieza> piezas) {
-        for (Pieza pieza : piezas) {
-            pieza.setUsada(false);
-        }
-    }
 
     /**
      * Método principal que inicia la ejecución del programa.
@@ -118,12 +107,10 @@ public class MainGeneral {
             }
             if (tamaño <= 5) {    
                 System.out.println("Resolviendo con Avance Rápido...\n");
-                reinicializarPiezas(piezas);
                 AvanceRapido ar = new AvanceRapido(piezas, tamaño);
                 ar.solucionAR();
             }
             System.out.println("Resolviendo con Algoritmo Genético...\n");
-            reinicializarPiezas(piezas);
             Genetico g = new Genetico(tamaño, piezas);
             g.ejecutar();
             }
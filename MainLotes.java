@@ -0,0 +1,140 @@
+/************************Datos administrativos****************************
+ * Nombre del proyecto: Análisis de Algoritmos - Armado de Rombecabezas
+ * Archivo: MainLotes.java
+ * Autor: Melany Jirón y Jeremy Montero
+ * Empresa: Instituto Tecnológico de Costa Rica
+ * ******************************Descripción*****************************
+ * Mide el rendimiento al resolver muchos rompecabezas pequeños a la vez.
+ * ******************************Versión*********************************
+ * 1.0 | 2026-30-01 | Melany Jirón Díaz y Jeremy Montero
+ ************************************************************************/
+
+/**
+ * Modo de rendimiento: genera muchas instancias independientes con Piezas.instancias y las
+ * resuelve a la vez con ResolvedorLotes, en hilos virtuales o en un ejecutor de tamaño fijo.
+ * Imprime las instancias por segundo y los percentiles de latencia por instancia.
+ * Las instancias de calentamiento se resuelven antes con la misma configuración y no se reportan.
+ *
+ * Uso:
+ *   java MainLotes [opciones]
+ *     --algoritmo fb|fbb|ar|fbp|ga|islas|portafolio   (por defecto ar)
+ *     --instancias N                    (por defecto 1000)
+ *     --tamaños 3,5,7                   (se alternan entre instancias, por defecto 3,5,7)
+ *     --rango N                         (valor máximo de los lados, por defecto 15)
+ *     --semilla N                       (semilla de la primera instancia, por defecto 1)
+ *     --en-vuelo N                      (máximo de instancias en curso, por defecto 256)
+ *     --hilos N                         (0 = un hilo virtual por instancia; por defecto 0)
+ *     --limite-ms N                     (tiempo máximo por instancia, 0 = sin límite; por defecto 200)
+ *     --max-nodos N                     (nodos máximos por instancia, 0 = sin límite)
+ *     --calentamiento N                 (instancias no reportadas, por defecto 200)
+ *
+ * @autor Melany Jirón Díaz y Jeremy Montero
+ * @version 1.0
+ */
+public class MainLotes {
+
+    private String algoritmo = "ar";
+    private long instancias = 1000;
+    private int[] tamaños = {3, 5, 7};
+    private int rango = 15;
+    private long semilla = 1;
+    private int enVuelo = 256;
+    private int hilos = 0;
+    private long limiteMs = 200;
+    private long maxNodos = 0;
+    private long calentamiento = 200;
+
+    /**
+     * Método principal: lee las opciones y ejecuta el lote.
+     */
+    public static void main(String[] args) {
+        MainLotes lotes = new MainLotes();
+        try {
+            lotes.leerOpciones(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Uso: java MainLotes [--algoritmo ar] [--instancias N] [--tamaños 3,5,7] [--rango N]"
+                               + " [--semilla N] [--en-vuelo N] [--hilos N] [--limite-ms N] [--max-nodos N]"
+                               + " [--calentamiento N]");
+            System.exit(2);
+        }
+        lotes.ejecutar();
+    }
+
+    /**
+     * Lee las opciones de la línea de comandos.
+     * @param args Argumentos del programa.
+     */
+    private void leerOpciones(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String opcion = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + opcion);
+            }
+            String valor = args[++i];
+            switch (opcion) {
+                case "--algoritmo":
+                    if (!MainExperimentos.ALGORITMOS.contains(valor)) {
+                        throw new IllegalArgumentException("Algoritmo desconocido: " + valor);
+                    }
+                    algoritmo = valor;
+                    break;
+                case "--instancias":
+                    instancias = MainExperimentos.largo(valor);
+                    break;
+                case "--tamaños":
+                case "--tamanos":
+                    tamaños = MainExperimentos.listaEnteros(valor);
+                    for (int tamaño : tamaños) {
+                        if (tamaño < 1) {
+                            throw new IllegalArgumentException("El tamaño debe ser al menos 1");
+                        }
+                    }
+                    break;
+                case "--rango":
+                    rango = MainExperimentos.entero(valor, 1);
+                    break;
+                case "--semilla":
+                    semilla = MainExperimentos.largo(valor);
+                    break;
+                case "--en-vuelo":
+                    enVuelo = MainExperimentos.entero(valor, 1);
+                    break;
+                case "--hilos":
+                    hilos = MainExperimentos.entero(valor, 0);
+                    break;
+                case "--limite-ms":
+                    limiteMs = MainExperimentos.largo(valor);
+                    break;
+                case "--max-nodos":
+                    maxNodos = MainExperimentos.largo(valor);
+                    break;
+                case "--calentamiento":
+                    calentamiento = MainExperimentos.largo(valor);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opción desconocida: " + opcion);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta el calentamiento y el lote medido, e imprime el resumen.
+     */
+    private void ejecutar() {
+        // Cada instancia usa un solo hilo: el paralelismo está entre instancias
+        ResolvedorLotes lotes = new ResolvedorLotes(
+            (piezas, tamaño) -> MainExperimentos.crearResolvedor(algoritmo, piezas, tamaño, semilla, 1),
+            enVuelo, hilos);
+
+        System.out.println("Algoritmo: " + algoritmo + " | Instancias: " + instancias
+                           + " | En vuelo: " + enVuelo + " | Hilos: " + (hilos == 0 ? "virtuales" : hilos));
+        if (calentamiento > 0) {
+            lotes.resolver(Piezas.instancias(calentamiento, tamaños, rango, semilla + instancias),
+                           new Presupuesto(limiteMs, maxNodos));
+        }
+        ResultadoLote resultado = lotes.resolver(Piezas.instancias(instancias, tamaños, rango, semilla),
+                                                 new Presupuesto(limiteMs, maxNodos));
+        resultado.imprimir();
+    }
+}
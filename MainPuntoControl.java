@@ -0,0 +1,238 @@
+/************************Datos administrativos****************************
+ * Nombre del proyecto: Análisis de Algoritmos - Armado de Rombecabezas
+ * Archivo: MainPuntoControl.java
+ * Autor: Melany Jirón y Jeremy Montero
+ * Empresa: Instituto Tecnológico de Costa Rica
+ * ******************************Descripción*****************************
+ * Ejecuta una búsqueda larga guardando puntos de control, o la continúa.
+ * ******************************Versión*********************************
+ * 1.0 | 2026-30-01 | Melany Jirón Díaz y Jeremy Montero
+ ************************************************************************/
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ejecuta un algoritmo Reanudable sobre una instancia generada con Piezas y guarda su estado en un
+ * archivo cada cierto tiempo y al agotarse el límite. Con --reanudar continúa desde ese archivo (la
+ * instancia y los parámetros deben ser los mismos); los contadores y el tiempo reportados incluyen
+ * los de las ejecuciones anteriores. Si la búsqueda termina, el archivo se borra.
+ * Con --verificar resuelve la instancia sin interrupciones y luego por tramos de --max-nodos nodos,
+ * continuando cada tramo desde el punto de control del anterior, y compara ambos resultados.
+ *
+ * Uso:
+ *   java MainPuntoControl [opciones]
+ *     --algoritmo fb|ar|ga              (por defecto fb)
+ *     --tamaño N                        (por defecto 5)
+ *     --rango N                         (valor máximo de los lados, por defecto 15)
+ *     --semilla N                       (semilla de la instancia y del genético, por defecto 1)
+ *     --archivo RUTA                    (por defecto busqueda.rmpc)
+ *     --intervalo-ms N                  (tiempo entre puntos de control, por defecto 10000)
+ *     --limite-ms N                     (tiempo máximo de esta ejecución, 0 = sin límite)
+ *     --max-nodos N                     (nodos máximos de esta ejecución, 0 = sin límite)
+ *     --reanudar                        (continuar desde el archivo)
+ *     --verificar                       (comparar con la ejecución sin interrupciones; requiere --max-nodos)
+ *
+ * @autor Melany Jirón Díaz y Jeremy Montero
+ * @version 1.0
+ */
+public class MainPuntoControl {
+
+    static final List<String> ALGORITMOS = Arrays.asList("fb", "ar", "ga");
+
+    private String algoritmo = "fb";
+    private int tamaño = 5;
+    private int rango = 15;
+    private long semilla = 1;
+    private Path archivo = Paths.get("busqueda.rmpc");
+    private long intervaloMs = 10000;
+    private long limiteMs = 0;
+    private long maxNodos = 0;
+    private boolean reanudar = false;
+    private boolean verificar = false;
+
+    /**
+     * Método principal: lee las opciones y ejecuta o continúa la búsqueda.
+     */
+    public static void main(String[] args) {
+        MainPuntoControl principal = new MainPuntoControl();
+        try {
+            principal.leerOpciones(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Uso: java MainPuntoControl [--algoritmo fb] [--tamaño N] [--rango N] [--semilla N]"
+                               + " [--archivo RUTA] [--intervalo-ms N] [--limite-ms N] [--max-nodos N] [--reanudar]"
+                               + " [--verificar]");
+            System.exit(2);
+        }
+        try {
+            if (principal.verificar) {
+                if (!principal.verificar()) {
+                    System.exit(1);
+                }
+            } else {
+                principal.ejecutar();
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Lee las opciones de la línea de comandos.
+     * @param args Argumentos del programa.
+     */
+    private void leerOpciones(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String opcion = args[i];
+            if (opcion.equals("--reanudar")) {
+                reanudar = true;
+                continue;
+            }
+            if (opcion.equals("--verificar")) {
+                verificar = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + opcion);
+            }
+            String valor = args[++i];
+            switch (opcion) {
+                case "--algoritmo":
+                    if (!ALGORITMOS.contains(valor)) {
+                        throw new IllegalArgumentException("Algoritmo sin puntos de control: " + valor);
+                    }
+                    algoritmo = valor;
+                    break;
+                case "--tamaño":
+                case "--tamano":
+                    tamaño = MainExperimentos.entero(valor, 1);
+                    break;
+                case "--rango":
+                    rango = MainExperimentos.entero(valor, 1);
+                    break;
+                case "--semilla":
+                    semilla = MainExperimentos.largo(valor);
+                    break;
+                case "--archivo":
+                    archivo = Paths.get(valor);
+                    break;
+                case "--intervalo-ms":
+                    intervaloMs = MainExperimentos.largo(valor);
+                    break;
+                case "--limite-ms":
+                    limiteMs = MainExperimentos.largo(valor);
+                    break;
+                case "--max-nodos":
+                    maxNodos = MainExperimentos.largo(valor);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opción desconocida: " + opcion);
+            }
+        }
+        if (verificar && (reanudar || maxNodos <= 0)) {
+            throw new IllegalArgumentException("--verificar requiere --max-nodos (nodos de cada tramo) y no admite --reanudar");
+        }
+    }
+
+    /**
+     * Ejecuta la búsqueda con puntos de control y conserva el archivo solo si quedó incompleta.
+     * @throws IOException Si no se puede leer o escribir el punto de control.
+     */
+    private void ejecutar() throws IOException {
+        Reanudable resolvedor = crearResolvedor();
+        if (reanudar) {
+            if (!Files.exists(archivo)) {
+                throw new IOException("No existe el punto de control " + archivo);
+            }
+            resolvedor.reanudar(archivo);
+            System.out.println("Continuando desde " + archivo);
+        }
+
+        PuntoControl puntoControl = new PuntoControl(archivo, intervaloMs);
+        resolvedor.setPuntoControl(puntoControl);
+        ResultadoEjecucion resultado = resolvedor.resolver(new Presupuesto(limiteMs, maxNodos));
+
+        if (resultado.isLimiteAlcanzado()) {
+            puntoControl.close();
+            System.out.println("Búsqueda incompleta: " + puntoControl.getEscritos()
+                               + " puntos de control escritos; continuar con --reanudar y --archivo " + archivo);
+        } else {
+            puntoControl.descartar();
+            System.out.println("Búsqueda terminada; se borró " + archivo);
+        }
+    }
+
+    /**
+     * Verifica la reanudación: resuelve la instancia sin interrupciones y luego por tramos de
+     * maxNodos nodos, cada uno continuado desde el punto de control del anterior. La fuerza bruta y el
+     * genético deben dar el mismo resultado y los mismos contadores; AvanceRapido recorre lo que falta
+     * en otro orden, por lo que solo se exige el mismo veredicto y, si hay solución, que sea válida.
+     * @return true si la reanudación reproduce el resultado.
+     * @throws IOException Si no se puede leer o escribir un punto de control (o el guardado no corresponde).
+     */
+    private boolean verificar() throws IOException {
+        Reanudable sinInterrupciones = crearResolvedor();
+        sinInterrupciones.setMostrarResultados(false);
+        ResultadoEjecucion completo = sinInterrupciones.resolver(new Presupuesto(limiteMs, 0));
+        if (completo.isLimiteAlcanzado()) {
+            System.out.println("La ejecución sin interrupciones no terminó dentro de --limite-ms; no se puede comparar.");
+            return false;
+        }
+
+        Files.deleteIfExists(archivo);
+        ResultadoEjecucion tramo;
+        int tramos = 0;
+        do {
+            Reanudable resolvedor = crearResolvedor();
+            resolvedor.setMostrarResultados(false);
+            if (tramos > 0) {
+                resolvedor.reanudar(archivo);
+            }
+            PuntoControl puntoControl = new PuntoControl(archivo, intervaloMs);
+            resolvedor.setPuntoControl(puntoControl);
+            tramo = resolvedor.resolver(new Presupuesto(0, maxNodos));
+            tramos++;
+            if (tramo.isLimiteAlcanzado()) {
+                puntoControl.close();
+            } else {
+                puntoControl.descartar();
+            }
+        } while (tramo.isLimiteAlcanzado());
+
+        boolean correcto = tramo.isSolucionEncontrada() == completo.isSolucionEncontrada()
+                           && (!tramo.isSolucionEncontrada() || tramo.getFitness() == tramo.getFitnessMaximo());
+        if (!algoritmo.equals("ar")) {
+            correcto = correcto && tramo.getFitness() == completo.getFitness()
+                       && tramo.getComparaciones() == completo.getComparaciones()
+                       && tramo.getAsignaciones() == completo.getAsignaciones();
+        }
+
+        System.out.println("Sin interrupciones: " + describir(completo));
+        System.out.println("En " + tramos + " tramos:  " + describir(tramo));
+        System.out.println(correcto ? "Verificación correcta." : "Verificación fallida.");
+        return correcto;
+    }
+
+    /**
+     * Resume un resultado para la verificación.
+     */
+    private static String describir(ResultadoEjecucion resultado) {
+        return "solución=" + resultado.isSolucionEncontrada() + ", fitness=" + resultado.getFitness()
+               + ", comparaciones=" + resultado.getComparaciones() + ", asignaciones=" + resultado.getAsignaciones();
+    }
+
+    /**
+     * Crea el algoritmo sobre la instancia de las opciones.
+     * @return Algoritmo listo para resolver o reanudar.
+     */
+    private Reanudable crearResolvedor() {
+        return (Reanudable) MainExperimentos.crearResolvedor(
+            algoritmo, new Piezas(tamaño, rango, semilla).getPiezas(), tamaño, semilla, 1);
+    }
+}
@@ -0,0 +1,138 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/************************Datos administrativos****************************
+ * Nombre del proyecto: Análisis de Algoritmos - Armado de Rombecabezas
+ * Archivo: MainTableroGrande.java
+ * Autor: Melany Jirón y Jeremy Montero
+ * Empresa: Instituto Tecnológico de Costa Rica
+ * ******************************Descripción*****************************
+ * Mide la calidad del armado en tableros que no caben como objetos en el heap.
+ * ******************************Versión*********************************
+ * 1.0 | 2026-30-01 | Melany Jirón Díaz y Jeremy Montero
+ ************************************************************************/
+
+/**
+ * Arma un tablero muy grande directamente desde su archivo mapeado en memoria:
+ * si el archivo no existe lo genera sin crear objetos (ArchivoRompecabezas.generarArchivo),
+ * lo mapea (RompecabezasMapeado), mide el fitness de las piezas en el orden del archivo
+ * y el del armado voraz (VorazMapeado), e informa el heap usado.
+ *
+ * Uso:
+ *   java MainTableroGrande [opciones]
+ *     --archivo ruta                    (por defecto corpus/t{tamaño}_r{rango}_s{semilla}.rmp)
+ *     --tamaño N                        (por defecto 1000; solo para generar)
+ *     --rango N                         (por defecto 15; solo para generar)
+ *     --semilla N                       (por defecto 1; solo para generar)
+ *     --limite-ms N                     (tiempo máximo del armado, 0 = sin límite)
+ *
+ * @autor Melany Jirón Díaz y Jeremy Montero
+ * @version 1.0
+ */
+public class MainTableroGrande {
+
+    private Path archivo = null;
+    private int tamaño = 1000;
+    private int rango = 15;
+    private long semilla = 1;
+    private long limiteMs = 0;
+
+    /**
+     * Método principal: lee las opciones, prepara el archivo y arma el tablero.
+     */
+    public static void main(String[] args) {
+        MainTableroGrande grande = new MainTableroGrande();
+        try {
+            grande.leerOpciones(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Uso: java MainTableroGrande [--archivo ruta] [--tamaño N] [--rango N] [--semilla N]"
+                               + " [--limite-ms N]");
+            System.exit(2);
+        }
+
+        try {
+            grande.ejecutar();
+        } catch (IOException e) {
+            System.err.println("Error de entrada o salida: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Lee las opciones de la línea de comandos.
+     * @param args Argumentos del programa.
+     */
+    private void leerOpciones(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String opcion = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + opcion);
+            }
+            String valor = args[++i];
+            switch (opcion) {
+                case "--archivo":
+                    archivo = Paths.get(valor);
+                    break;
+                case "--tamaño":
+                case "--tamano":
+                    tamaño = MainExperimentos.entero(valor, 1);
+                    break;
+                case "--rango":
+                    rango = MainExperimentos.entero(valor, 1);
+                    break;
+                case "--semilla":
+                    semilla = MainExperimentos.largo(valor);
+                    break;
+                case "--limite-ms":
+                    limiteMs = MainExperimentos.largo(valor);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opción desconocida: " + opcion);
+            }
+        }
+        if (archivo == null) {
+            archivo = Paths.get("corpus", ArchivoRompecabezas.nombreArchivo(tamaño, rango, semilla));
+        }
+    }
+
+    /**
+     * Genera el archivo si falta, lo mapea y arma el tablero.
+     * @throws IOException Si no se puede leer o escribir el archivo.
+     */
+    private void ejecutar() throws IOException {
+        if (!Files.exists(archivo)) {
+            System.out.println("Generando " + archivo + "...");
+            long inicio = System.nanoTime();
+            if (archivo.getParent() != null) {
+                Files.createDirectories(archivo.getParent());
+            }
+            ArchivoRompecabezas.generarArchivo(archivo, tamaño, rango, semilla);
+            System.out.println("Generado en " + String.format("%.3f s", (System.nanoTime() - inicio) / 1e9));
+        }
+
+        RompecabezasMapeado rompecabezas = new RompecabezasMapeado(archivo);
+        int n = rompecabezas.getTamaño();
+        System.out.println("Archivo: " + archivo + " (" + Files.size(archivo) + " bytes)");
+        System.out.println("Tamaño: " + n + "x" + n + " | Rango: 0 a " + rompecabezas.getValorMaximo()
+                           + " | Bits por lado: " + rompecabezas.getBitsPorLado());
+
+        // Fitness de las piezas en el orden del archivo (desordenadas)
+        int[] orden = new int[rompecabezas.getCantidadPiezas()];
+        for (int i = 0; i < orden.length; i++) {
+            orden[i] = i;
+        }
+        System.out.println("Fitness del rompecabezas desordenado: " + rompecabezas.contarCoincidencias(orden)
+                           + "/" + rompecabezas.getFitnessMaximo());
+        orden = null;
+
+        VorazMapeado voraz = new VorazMapeado(rompecabezas);
+        voraz.resolver(new Presupuesto(limiteMs));
+
+        Runtime runtime = Runtime.getRuntime();
+        System.out.println("Heap usado al terminar: " + ((runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024))
+                           + " MB de " + (runtime.maxMemory() / (1024 * 1024)) + " MB");
+    }
+}
@@ -0,0 +1,149 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Clase auxiliar que mide la memoria de una ejecución:
+ * - Bytes asignados: memoria reservada en el heap durante la ejecución, según
+ *   com.sun.management.ThreadMXBean. Para algoritmos de un hilo se mide solo el hilo
+ *   actual; para algoritmos paralelos se usa el total de todos los hilos de la JVM.
+ * - Pico de heap usado: máximo de getHeapMemoryUsage().getUsed(), muestreado por un hilo auxiliar
+ *   mientras dura la ejecución, menos el heap usado al iniciar. Incluye la basura aún no recolectada,
+ *   por lo que no es la memoria retenida por el algoritmo: depende del tamaño de las generaciones
+ *   del recolector y de cuándo corre, y un pico entre dos muestras se puede perder.
+ *
+ * A diferencia de totalMemory - freeMemory, la memoria asignada no depende de cuándo
+ * corre el recolector de basura, por lo que nunca es negativa.
+ *
+ * Al resolver muchas instancias pequeñas la medición se puede desactivar (Presupuesto.setMedirMemoria):
+ * el recolector forzado y el hilo de muestreo costarían más que la propia búsqueda.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class MedicionMemoria {
+
+    // Intervalo de muestreo del heap en milisegundos
+    private static final long INTERVALO_MUESTREO = 1;
+
+    private final com.sun.management.ThreadMXBean hilos;
+    private final MemoryMXBean memoria;
+    private final boolean todosLosHilos;
+    private boolean activa;
+
+    private long asignadosInicio;
+    private long bytesAsignados;
+    private long heapInicio;
+    private volatile long picoHeapUsado;
+    private volatile boolean midiendo;
+    private Thread muestreador;
+
+    /**
+     * Constructor.
+     * @param todosLosHilos true para medir las asignaciones de todos los hilos
+     *                      (algoritmos paralelos), false para solo el hilo actual.
+     */
+    public MedicionMemoria(boolean todosLosHilos) {
+        this.hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.memoria = ManagementFactory.getMemoryMXBean();
+        this.todosLosHilos = todosLosHilos;
+        if (hilos.isThreadAllocatedMemorySupported() && !hilos.isThreadAllocatedMemoryEnabled()) {
+            hilos.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    /**
+     * Prepara y comienza la medición de una ejecución. Si se mide, antes se ejecuta el
+     * recolector de basura para que el heap inicial no incluya basura de ejecuciones anteriores.
+     * @param todosLosHilos true para medir las asignaciones de todos los hilos.
+     * @param medir false para no medir (bytes asignados -1 y pico 0).
+     * @return Medición iniciada.
+     */
+    public static MedicionMemoria iniciar(boolean todosLosHilos, boolean medir) {
+        MedicionMemoria medicion = new MedicionMemoria(todosLosHilos);
+        if (medir) {
+            Runtime.getRuntime().gc();
+            medicion.iniciar();
+        } else {
+            medicion.bytesAsignados = -1;
+        }
+        return medicion;
+    }
+
+    /**
+     * Inicia la medición y el muestreo del heap.
+     */
+    public void iniciar() {
+        activa = true;
+        heapInicio = heapUsado();
+        picoHeapUsado = heapInicio;
+        midiendo = true;
+
+        muestreador = new Thread(() -> {
+            while (midiendo) {
+                muestrear();
+                try {
+                    Thread.sleep(INTERVALO_MUESTREO);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "muestreo-heap");
+        muestreador.setDaemon(true);
+        muestreador.start();
+
+        asignadosInicio = asignados();
+    }
+
+    /**
+     * Detiene la medición.
+     */
+    public void detener() {
+        if (!activa) {
+            return;
+        }
+        activa = false;
+        bytesAsignados = hilos.isThreadAllocatedMemoryEnabled() ? asignados() - asignadosInicio : -1;
+        midiendo = false;
+        muestrear();
+        muestreador.interrupt();
+        try {
+            muestreador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Registra el heap usado actual si supera el pico.
+     */
+    private void muestrear() {
+        long usado = heapUsado();
+        if (usado > picoHeapUsado) {
+            picoHeapUsado = usado;
+        }
+    }
+
+    private long heapUsado() {
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+
+    private long asignados() {
+        return todosLosHilos ? hilos.getTotalThreadAllocatedBytes() : hilos.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Obtiene los bytes asignados entre iniciar y detener.
+     * @return Bytes asignados, o -1 si la JVM no lo soporta.
+     */
+    public long getBytesAsignados() {
+        return bytesAsignados;
+    }
+
+    /**
+     * Obtiene el pico muestreado del heap usado (con basura) durante la ejecución, sobre el heap
+     * usado al iniciar.
+     * @return Bytes del pico de heap usado.
+     */
+    public long getPicoHeapUsado() {
+        return Math.max(0, picoHeapUsado - heapInicio);
+    }
+}
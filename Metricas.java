@@ -0,0 +1,53 @@
+/**
+ * Interfaz para las mediciones empíricas de los algoritmos
+ * (comparaciones, asignaciones, alternativas exploradas y podas).
+ * Implementaciones:
+ * - MetricasNulas: no cuenta nada; el JIT elimina las llamadas, para ejecuciones sin medición.
+ * - MetricasSimples: contadores long para un solo hilo.
+ * - MetricasConcurrentes: contadores LongAdder para algoritmos paralelos.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public interface Metricas {
+
+    void sumarComparaciones(long cantidad);
+
+    void sumarAsignaciones(long cantidad);
+
+    void sumarAlternativas(long cantidad);
+
+    void sumarPodas(long cantidad);
+
+    default void incrementarComparaciones() {
+        sumarComparaciones(1);
+    }
+
+    default void incrementarAsignaciones() {
+        sumarAsignaciones(1);
+    }
+
+    default void incrementarAlternativas() {
+        sumarAlternativas(1);
+    }
+
+    default void incrementarPodas() {
+        sumarPodas(1);
+    }
+
+    // Getters para los contadores
+    long getComparaciones();
+
+    long getAsignaciones();
+
+    long getAlternativas();
+
+    long getPodas();
+
+    /**
+     * Obtiene las instrucciones ejecutadas (comparaciones + asignaciones).
+     * @return Cantidad de instrucciones.
+     */
+    default long getInstrucciones() {
+        return getComparaciones() + getAsignaciones();
+    }
+}
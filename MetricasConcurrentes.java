@@ -0,0 +1,56 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas con contadores LongAdder, seguras entre hilos.
+ * Cada LongAdder reparte las actualizaciones en celdas por hilo, por lo que
+ * los algoritmos paralelos pueden contar sin competir por el mismo campo.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public final class MetricasConcurrentes implements Metricas {
+
+    private final LongAdder comparaciones = new LongAdder();
+    private final LongAdder asignaciones = new LongAdder();
+    private final LongAdder alternativas = new LongAdder();
+    private final LongAdder podas = new LongAdder();
+
+    @Override
+    public void sumarComparaciones(long cantidad) {
+        comparaciones.add(cantidad);
+    }
+
+    @Override
+    public void sumarAsignaciones(long cantidad) {
+        asignaciones.add(cantidad);
+    }
+
+    @Override
+    public void sumarAlternativas(long cantidad) {
+        alternativas.add(cantidad);
+    }
+
+    @Override
+    public void sumarPodas(long cantidad) {
+        podas.add(cantidad);
+    }
+
+    @Override
+    public long getComparaciones() {
+        return comparaciones.sum();
+    }
+
+    @Override
+    public long getAsignaciones() {
+        return asignaciones.sum();
+    }
+
+    @Override
+    public long getAlternativas() {
+        return alternativas.sum();
+    }
+
+    @Override
+    public long getPodas() {
+        return podas.sum();
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Métricas que no cuentan nada.
+ * Todos los métodos están vacíos, por lo que el JIT elimina las llamadas
+ * y una ejecución sin medición no paga el costo de los contadores.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public final class MetricasNulas implements Metricas {
+
+    // Instancia única (no tiene estado)
+    public static final MetricasNulas INSTANCIA = new MetricasNulas();
+
+    private MetricasNulas() {
+    }
+
+    @Override
+    public void sumarComparaciones(long cantidad) {
+    }
+
+    @Override
+    public void sumarAsignaciones(long cantidad) {
+    }
+
+    @Override
+    public void sumarAlternativas(long cantidad) {
+    }
+
+    @Override
+    public void sumarPodas(long cantidad) {
+    }
+
+    @Override
+    public long getComparaciones() {
+        return 0;
+    }
+
+    @Override
+    public long getAsignaciones() {
+        return 0;
+    }
+
+    @Override
+    public long getAlternativas() {
+        return 0;
+    }
+
+    @Override
+    public long getPodas() {
+        return 0;
+    }
+}
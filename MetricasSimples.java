@@ -0,0 +1,54 @@
+/**
+ * Métricas con contadores long.
+ * Es la opción más rápida cuando un solo hilo actualiza los contadores;
+ * no es segura entre hilos.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public final class MetricasSimples implements Metricas {
+
+    private long comparaciones;
+    private long asignaciones;
+    private long alternativas;
+    private long podas;
+
+    @Override
+    public void sumarComparaciones(long cantidad) {
+        comparaciones += cantidad;
+    }
+
+    @Override
+    public void sumarAsignaciones(long cantidad) {
+        asignaciones += cantidad;
+    }
+
+    @Override
+    public void sumarAlternativas(long cantidad) {
+        alternativas += cantidad;
+    }
+
+    @Override
+    public void sumarPodas(long cantidad) {
+        podas += cantidad;
+    }
+
+    @Override
+    public long getComparaciones() {
+        return comparaciones;
+    }
+
+    @Override
+    public long getAsignaciones() {
+        return asignaciones;
+    }
+
+    @Override
+    public long getAlternativas() {
+        return alternativas;
+    }
+
+    @Override
+    public long getPodas() {
+        return podas;
+    }
+}
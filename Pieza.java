@@ -1,16 +1,16 @@
 /**
  * Clase que representa una pieza del tablero con valores en sus cuatro lados.
+ * Es inmutable: si una pieza está usada o no lo registra cada búsqueda por separado,
+ * por lo que varias búsquedas pueden compartir las mismas piezas entre hilos.
  * @autor Melany Jirón Díaz, Jeremy Montero
  * @version 1.0
  */
 public class Pieza {
   
-    private int arriba;
-    private int derecha;
-    private int abajo;
-    private int izquierda;
-
-    private boolean usada;
+    private final int arriba;
+    private final int derecha;
+    private final int abajo;
+    private final int izquierda;
 
     /**
      * Constructor de la clase Pieza.
@@ -24,10 +24,9 @@ public class Pieza {
         this.derecha = derecha;
         this.abajo = abajo;
         this.izquierda = izquierda;
-        this.usada = false;
     }
 
-    // Getters y Setter
+    // Getters
     public int getArriba() {
         return arriba;
     }
@@ -44,24 +43,25 @@ public class Pieza {
         return izquierda;
     }
 
-    public boolean isUsada() {
-        return usada;
-    }
-
-    public void setUsada(boolean usada) {
-        this.usada = usada;
-    }
-
     // Representación visual en 3 líneas para impresión en el tablero
     /*
      * @return Array de Strings con la representación visual de la pieza.
      */
     public String[] visualizacionLineas() {
+        return visualizacionLineas(false);
+    }
+
+    /**
+     * Representación visual en 3 líneas, marcando el centro si la pieza está colocada.
+     * @param colocada true para marcar la pieza con "*".
+     * @return Array de Strings con la representación visual de la pieza.
+     */
+    public String[] visualizacionLineas(boolean colocada) {
         String arri = String.format("%2d", arriba);
         String dere = String.format("%2d", derecha);
         String aba = String.format("%2d", abajo);
         String izql = String.format("%2d", izquierda);
-        String center = usada ? "*" : " ";
+        String center = colocada ? "*" : " ";
         String top = String.format("  %2s   ", arri);
         String middle = String.format("%2s %s %2s", izql, center, dere);
         String bottom = String.format("  %2s   ", aba);
@@ -71,7 +71,7 @@ public class Pieza {
     @Override
     public String toString() {
         return "Pieza{" + "arriba=" + arriba + ", derecha=" + derecha +
-                ", abajo=" + abajo + ", izquierda=" + izquierda + ", usada=" + usada +
+                ", abajo=" + abajo + ", izquierda=" + izquierda +
                 '}';
     }
 
@@ -80,13 +80,14 @@ public class Pieza {
      * Crea y retorna una copia exacta de la pieza actual.
      * @return Una nueva instancia de Pieza con los mismos valores de arriba, abajo,
      * izquierda y derecha que la pieza original.
+     * Como la pieza es inmutable, compartir la misma instancia es equivalente.
      */
     public Pieza clonar() {
     return new Pieza(
         this.getArriba(),
+        this.getDerecha(),
         this.getAbajo(),
-        this.getIzquierda(),
-        this.getDerecha()
+        this.getIzquierda()
         );
     }
 }
@@ -1,5 +1,7 @@
 import java.util.ArrayList;
 import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /*
  * Clase que genera piezas para un tablero de tamaño dado con valores aleatorios.
@@ -20,14 +22,43 @@ public class Piezas {
      * Inicializa la lista de piezas y genera las piezas con solución.
      */
     public Piezas(int tamaño, int valorMaximo) {
+        this(tamaño, valorMaximo, new Random());
+    }
+
+    /**
+     * Constructor con semilla, para generar siempre las mismas piezas.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param valorMaximo Valor máximo para los lados de las piezas.
+     * @param semilla Semilla del generador de números aleatorios.
+     */
+    public Piezas(int tamaño, int valorMaximo, long semilla) {
+        this(tamaño, valorMaximo, new Random(semilla));
+    }
+
+    private Piezas(int tamaño, int valorMaximo, Random random) {
         this.tamaño = tamaño;
         this.valorMaximo = valorMaximo;
         this.piezas = new ArrayList<>();
-        this.random = new Random();
+        this.random = random;
 
         piezasConSolucion();
     }
 
+    /**
+     * Genera un flujo perezoso de instancias reproducibles, para resolver muchas en lote.
+     * La instancia i tiene tamaño tamaños[i % tamaños.length] y semilla semilla + i;
+     * cada una se genera solo cuando se consume.
+     * @param cantidad Cantidad de instancias.
+     * @param tamaños Tamaños de tablero que se alternan.
+     * @param valorMaximo Valor máximo para los lados de las piezas.
+     * @param semilla Semilla de la primera instancia.
+     * @return Flujo con las piezas (desordenadas) de cada instancia.
+     */
+    public static Stream<ArrayList<Pieza>> instancias(long cantidad, int[] tamaños, int valorMaximo, long semilla) {
+        return LongStream.range(0, cantidad)
+                         .mapToObj(i -> new Piezas(tamaños[(int) (i % tamaños.length)], valorMaximo, semilla + i).getPiezas());
+    }
+
     /*
      * Método que genera piezas asegurando que haya una solución válida para el tablero.
      * Cada pieza se crea de manera que sus lados coincidan con las piezas adyacentes.
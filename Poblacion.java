@@ -1,6 +1,8 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Clase que representa una población de cromosomas para el algoritmo genético.
@@ -22,52 +24,65 @@ public class Poblacion {
      * @param piezasBase      Lista base de piezas para generar los cromosomas.
      */
     public Poblacion(int tamañoPoblacion, int tamañoTablero, ArrayList<Pieza> piezasBase) {
+        this(tamañoPoblacion, tamañoTablero, piezasBase, new Random());
+    }
+
+    /**
+     * Constructor de la población con un generador de números aleatorios dado.
+     * @param tamañoPoblacion Número de cromosomas en la población.
+     * @param tamañoTablero   Tamaño del tablero (n x n).
+     * @param piezasBase      Lista base de piezas para generar los cromosomas.
+     * @param aleatorio       Generador usado para desordenar las piezas (permite repetir la población).
+     */
+    public Poblacion(int tamañoPoblacion, int tamañoTablero, ArrayList<Pieza> piezasBase,
+                     RandomGenerator aleatorio) {
+        this(tamañoPoblacion, tamañoTablero, new AlmacenPiezas(piezasBase), piezasBase.size(), aleatorio);
+    }
+
+    /**
+     * Constructor de la población sobre un almacén de lados ya creado (el del algoritmo genético).
+     * @param tamañoPoblacion Número de cromosomas en la población.
+     * @param tamañoTablero   Tamaño del tablero (n x n).
+     * @param almacen         Lados de las piezas base por id, compartidos por todos los cromosomas.
+     * @param cantidadPiezas  Cantidad de piezas base.
+     * @param aleatorio       Generador usado para desordenar las piezas (permite repetir la población).
+     */
+    public Poblacion(int tamañoPoblacion, int tamañoTablero, AlmacenPiezas almacen, int cantidadPiezas,
+                     RandomGenerator aleatorio) {
         this.tamañoPoblacion = tamañoPoblacion;
         this.tamañoTablero = tamañoTablero;
         this.poblacion = new ArrayList<>();
-        generarPoblacionInicial(piezasBase);
+        generarPoblacionInicial(almacen, cantidadPiezas, aleatorio);
     }
 
     /**
      * Genera la población inicial de manera aleatoria.
-     * Cada cromosoma utiliza todas las piezas, sin repetirlas.
-     * @param piezasBase Lista base de piezas.
+     * Cada cromosoma utiliza todas las piezas, sin repetirlas: se desordenan los ids
+     * de las piezas y todos los cromosomas comparten el mismo almacén de lados.
+     * @param almacen Lados de las piezas base por id.
+     * @param cantidadPiezas Cantidad de piezas base.
+     * @param aleatorio Generador usado para desordenar las piezas.
      */
-    private void generarPoblacionInicial(ArrayList<Pieza> piezasBase) {
+    private void generarPoblacionInicial(AlmacenPiezas almacen, int cantidadPiezas, RandomGenerator aleatorio) {
         for (int i = 0; i < tamañoPoblacion; i++) {
-            ArrayList<Pieza> copia = copiarPiezas(piezasBase);
-            Collections.shuffle(copia);
-
-            Pieza[][] genes = new Pieza[tamañoTablero][tamañoTablero];
-            int index = 0;
+            int[] ids = new int[cantidadPiezas];
+            for (int id = 0; id < ids.length; id++) {
+                ids[id] = id;
+            }
 
-            for (int f = 0; f < tamañoTablero; f++) {
-                for (int c = 0; c < tamañoTablero; c++) {
-                    genes[f][c] = copia.get(index++);
-                }
+            // Fisher-Yates sobre los ids
+            for (int j = ids.length - 1; j > 0; j--) {
+                int k = aleatorio.nextInt(j + 1);
+                int temp = ids[j];
+                ids[j] = ids[k];
+                ids[k] = temp;
             }
 
-            Cromosoma cromosoma = new Cromosoma(genes);
+            Cromosoma cromosoma = new Cromosoma(almacen, ids, tamañoTablero);
             poblacion.add(cromosoma);
         }
     }
 
-    /**
-     * Copia profunda de la lista de piezas.
-     * Cada cromosoma tendrá sus propias piezas independientes.
-     * @param originales Lista original de piezas.
-     * @return Nueva lista con copias de las piezas.
-     */
-    private ArrayList<Pieza> copiarPiezas(ArrayList<Pieza> originales) {
-        ArrayList<Pieza> copia = new ArrayList<>();
-
-        for (Pieza p : originales) {
-            copia.add(p.clonar()); // Necesitas el método clonar() en Pieza
-        }
-
-        return copia;
-    }
-
     /**
      * Ordena la población de mayor a menor fitness.
      */
@@ -0,0 +1,217 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Clase que ejecuta varios algoritmos a la vez sobre la misma instancia (portafolio).
+ * Cada algoritmo corre en su propio hilo con un presupuesto hijo del recibido. El primero
+ * que arma el rompecabezas completo gana y se cancela a los demás, por lo que el tiempo
+ * es el del algoritmo más rápido para esa instancia. Si ninguno lo logra dentro del
+ * presupuesto, gana el de mayor fitness.
+ * La memoria se mide una sola vez alrededor de toda la carrera (los presupuestos hijos no la miden).
+ * Por defecto compiten Fuerza Bruta, Avance Rápido (MRV) y el Algoritmo Genético.
+ *
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class Portafolio implements Resolvedor {
+
+    private ArrayList<Resolvedor> resolvedores;
+    private int tamaño;
+
+    // Resultado de cada algoritmo y del portafolio en la última ejecución
+    private ResultadoEjecucion[] resultados;
+    private int ganador;
+    private ResultadoEjecucion resultado;
+
+    private boolean mostrarResultados;
+
+    /**
+     * Constructor con los algoritmos por defecto: Fuerza Bruta, Avance Rápido y Algoritmo Genético.
+     * @param piezas Lista de piezas a colocar en el tablero.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param semilla Semilla del Algoritmo Genético.
+     */
+    public Portafolio(ArrayList<Pieza> piezas, int tamaño, long semilla) {
+        this(crearResolvedores(piezas, tamaño, semilla), tamaño);
+    }
+
+    /**
+     * Constructor.
+     * @param resolvedores Algoritmos que compiten, ya construidos sobre la misma instancia.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     */
+    public Portafolio(List<Resolvedor> resolvedores, int tamaño) {
+        if (resolvedores.isEmpty()) {
+            throw new IllegalArgumentException("El portafolio necesita al menos un algoritmo");
+        }
+        this.resolvedores = new ArrayList<>(resolvedores);
+        this.tamaño = tamaño;
+        this.mostrarResultados = true;
+    }
+
+    private static ArrayList<Resolvedor> crearResolvedores(ArrayList<Pieza> piezas, int tamaño, long semilla) {
+        ArrayList<Resolvedor> resolvedores = new ArrayList<>();
+        resolvedores.add(new FuerzaBruta(piezas, tamaño));
+        resolvedores.add(new AvanceRapido(piezas, tamaño));
+        resolvedores.add(new Genetico(tamaño, piezas, semilla, 1));
+        return resolvedores;
+    }
+
+    /**
+     * Activa o desactiva la impresión del reporte y del tablero al terminar.
+     * Los algoritmos del portafolio nunca imprimen.
+     * @param mostrarResultados true para imprimir.
+     */
+    @Override
+    public void setMostrarResultados(boolean mostrarResultados) {
+        this.mostrarResultados = mostrarResultados;
+    }
+
+    /**
+     * Ejecuta todos los algoritmos en paralelo hasta que uno encuentre la solución
+     * o todos terminen. Cada uno recibe un presupuesto hijo con los mismos límites.
+     * @param presupuesto Tiempo y nodos máximos de cada algoritmo, y cancelación de todos.
+     * @return Resultado del ganador, con el tiempo del portafolio y la suma de los contadores.
+     */
+    @Override
+    public ResultadoEjecucion resolver(Presupuesto presupuesto) {
+        int cantidad = resolvedores.size();
+        resultados = new ResultadoEjecucion[cantidad];
+        ganador = -1;
+
+        MedicionMemoria medicion = MedicionMemoria.iniciar(true, presupuesto.isMedirMemoria());
+        long inicio = System.nanoTime();
+        long fin = 0;
+        presupuesto.iniciar();
+
+        Presupuesto[] presupuestos = new Presupuesto[cantidad];
+        ExecutorService pool = Executors.newFixedThreadPool(cantidad);
+        ExecutorCompletionService<Integer> terminados = new ExecutorCompletionService<>(pool);
+        try {
+            for (int i = 0; i < cantidad; i++) {
+                int indice = i;
+                Resolvedor resolvedor = resolvedores.get(i);
+                resolvedor.setMostrarResultados(false);
+                presupuestos[i] = presupuesto.crearHijo();
+                terminados.submit(() -> {
+                    try {
+                        resultados[indice] = resolvedor.resolver(presupuestos[indice]);
+                        return indice;
+                    } finally {
+                        // Sin esto, un presupuesto reutilizado acumula hijos terminados
+                        presupuesto.liberarHijo(presupuestos[indice]);
+                    }
+                });
+            }
+
+            // El primero con solución exacta gana; los demás se cancelan y se espera a que se detengan
+            for (int k = 0; k < cantidad; k++) {
+                int indice = terminados.take().get();
+                if (ganador == -1 && resultados[indice].isSolucionEncontrada()) {
+                    ganador = indice;
+                    fin = System.nanoTime();
+                    for (int j = 0; j < cantidad; j++) {
+                        if (j != indice) {
+                            presupuestos[j].cancelar();
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            presupuesto.cancelar();
+            throw new IllegalStateException("Ejecución del portafolio interrumpida", e);
+        } catch (ExecutionException e) {
+            presupuesto.cancelar();
+            throw new IllegalStateException("Error en un algoritmo del portafolio", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        medicion.detener();
+
+        // Sin solución exacta gana el de mayor fitness
+        if (ganador == -1) {
+            fin = System.nanoTime();
+            ganador = 0;
+            for (int i = 1; i < cantidad; i++) {
+                if (resultados[i].getFitness() > resultados[ganador].getFitness()) {
+                    ganador = i;
+                }
+            }
+        }
+
+        ResultadoEjecucion mejor = resultados[ganador];
+        long comparaciones = 0;
+        long asignaciones = 0;
+        long alternativas = 0;
+        long podas = 0;
+        for (ResultadoEjecucion r : resultados) {
+            comparaciones += r.getComparaciones();
+            asignaciones += r.getAsignaciones();
+            alternativas += r.getAlternativas();
+            podas += r.getPodas();
+        }
+        resultado = new ResultadoEjecucion("Portafolio (" + mejor.getAlgoritmo() + ")", mejor.isSolucionEncontrada(),
+                                           !mejor.isSolucionEncontrada() && mejor.isLimiteAlcanzado(),
+                                           mejor.getMejorTablero(), mejor.getFitness(), mejor.getFitnessMaximo(),
+                                           fin - inicio, medicion.getBytesAsignados(), medicion.getPicoHeapUsado(), comparaciones, asignaciones,
+                                           alternativas, podas);
+
+        if (mostrarResultados) {
+            imprimirResultados();
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene el resultado estructurado de la última ejecución.
+     * @return Resultado, o null si aún no se ha ejecutado.
+     */
+    public ResultadoEjecucion getResultado() {
+        return resultado;
+    }
+
+    /**
+     * Obtiene el resultado del algoritmo ganador de la última ejecución.
+     * @return Resultado del ganador, o null si aún no se ha ejecutado.
+     */
+    public ResultadoEjecucion getGanador() {
+        return resultados == null ? null : resultados[ganador];
+    }
+
+    /**
+     * Obtiene el resultado de cada algoritmo en la última ejecución, en el orden del constructor.
+     * @return Resultados de los algoritmos.
+     */
+    public ResultadoEjecucion[] getResultados() {
+        return resultados;
+    }
+
+    /**
+     * Imprime el ganador, el resultado de cada algoritmo y el mejor tablero.
+     */
+    private void imprimirResultados() {
+        ResultadoEjecucion mejor = resultados[ganador];
+
+        System.out.println("====== Portafolio ======");
+        System.out.println("Tamaño: " + tamaño + "x" + tamaño + " | Algoritmos: " + resultados.length);
+        System.out.println("Ganador: " + mejor.getAlgoritmo()
+                           + (mejor.isSolucionEncontrada() ? " (solución exacta)" : " (mejor fitness)"));
+        System.out.println("Duración: " + String.format("%.3f s", resultado.getTiempoSegundos()));
+        resultado.imprimirMemoria();
+        System.out.println("Comparaciones: " + resultado.getComparaciones());
+        System.out.println("Asignaciones: " + resultado.getAsignaciones());
+        System.out.println("Instrucciones: " + resultado.getInstrucciones());
+        System.out.println("\n--- Resultado de cada algoritmo ---");
+        for (ResultadoEjecucion r : resultados) {
+            System.out.println(r);
+        }
+        System.out.println("========================");
+        System.out.println(mejor.isSolucionEncontrada() ? "Tablero solución:" : "Mejor tablero encontrado:");
+        mejor.getMejorTablero().imprimirTablero();
+    }
+}
@@ -0,0 +1,223 @@
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clase auxiliar que controla cuánto puede trabajar un algoritmo:
+ * - Tiempo máximo de ejecución.
+ * - Máximo de nodos (alternativas del backtracking o hijos generados en el genético).
+ * - Cancelación desde otro hilo con cancelar().
+ * Para ejecutar varios algoritmos a la vez cada uno recibe un presupuesto hijo (crearHijo()),
+ * con los mismos límites pero su propia cuenta; cancelar el padre cancela a todos los hijos.
+ * Los algoritmos revisan el presupuesto de forma cooperativa y, al agotarse, se detienen
+ * devolviendo el mejor tablero obtenido hasta ese momento.
+ *
+ * También indica si se mide la memoria de la ejecución (por defecto sí).
+ *
+ * Para no llamar a System.nanoTime en cada nodo, agotado() solo revisa el reloj y suma
+ * los nodos cada cierta cantidad de llamadas. Una vez agotado, el presupuesto queda marcado.
+ * iniciar(), cancelar() y el marcado se sincronizan entre sí, para que una cancelación desde otro
+ * hilo mientras el algoritmo inicia su presupuesto no se pierda.
+ * @autor Melany Jirón Díaz
+ * @version 1.3
+ */
+public class Presupuesto {
+
+    // Cantidad de llamadas a agotado() entre cada revisión del reloj (potencia de 2)
+    static final int INTERVALO_REVISION = 1024;
+
+    private final long duracionNanos;
+    private final long maxNodos;
+    private long fin;
+    private int llamadas;
+    private final AtomicLong nodos;
+    private volatile boolean agotado;
+    private volatile boolean cancelado;
+    private volatile String motivo;
+    private final CopyOnWriteArrayList<Presupuesto> hijos;
+    private boolean medirMemoria;
+
+    /**
+     * Constructor con solo tiempo máximo.
+     * @param milisegundos Tiempo máximo en milisegundos; 0 o negativo para no tener límite.
+     */
+    public Presupuesto(long milisegundos) {
+        this(milisegundos, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param milisegundos Tiempo máximo en milisegundos; 0 o negativo para no tener límite.
+     * @param maxNodos Máximo de nodos a explorar; 0 o negativo para no tener límite.
+     */
+    public Presupuesto(long milisegundos, long maxNodos) {
+        this.duracionNanos = milisegundos > 0 ? milisegundos * 1_000_000L : 0;
+        this.maxNodos = Math.max(0, maxNodos);
+        this.nodos = new AtomicLong();
+        this.hijos = new CopyOnWriteArrayList<>();
+        this.medirMemoria = true;
+    }
+
+    /**
+     * Crea un presupuesto que nunca se agota (salvo que se cancele).
+     * @return Presupuesto sin límites.
+     */
+    public static Presupuesto sinLimite() {
+        return new Presupuesto(0, 0);
+    }
+
+    /**
+     * Crea un presupuesto con los mismos límites y cuenta propia, que se cancela junto con este.
+     * El hijo no mide memoria: la medición fuerza el recolector, lo que detendría a los demás hijos
+     * que se ejecutan a la vez; quien los ejecuta mide una sola vez alrededor de todos.
+     * @return Presupuesto hijo.
+     */
+    public Presupuesto crearHijo() {
+        Presupuesto hijo = new Presupuesto(duracionNanos / 1_000_000L, maxNodos);
+        hijo.medirMemoria = false;
+        hijos.add(hijo);
+        if (cancelado) {
+            hijo.cancelar();
+        }
+        return hijo;
+    }
+
+    /**
+     * Deja de cancelar al hijo junto con este presupuesto, una vez que su ejecución terminó.
+     * Evita que la lista de hijos crezca al crear uno por cada instancia de un lote.
+     * @param hijo Presupuesto creado con crearHijo().
+     */
+    public void liberarHijo(Presupuesto hijo) {
+        hijos.remove(hijo);
+    }
+
+    /**
+     * Inicia la cuenta del tiempo y de los nodos desde este momento.
+     * Una cancelación hecha antes de iniciar se conserva.
+     */
+    public synchronized void iniciar() {
+        fin = System.nanoTime() + duracionNanos;
+        llamadas = 0;
+        nodos.set(0);
+        agotado = cancelado;
+        if (!cancelado) {
+            motivo = null;
+        }
+    }
+
+    /**
+     * Cuenta un nodo e indica si se agotó el presupuesto. El reloj y el total de nodos
+     * solo se revisan cada INTERVALO_REVISION llamadas.
+     * Para un solo hilo; en algoritmos paralelos cada tarea debe usar registrarNodos().
+     * @return true si se agotó el presupuesto o se canceló.
+     */
+    public boolean agotado() {
+        if (agotado) {
+            return true;
+        }
+        if ((++llamadas & (INTERVALO_REVISION - 1)) != 0) {
+            return false;
+        }
+        return registrarNodos(INTERVALO_REVISION);
+    }
+
+    /**
+     * Suma nodos explorados y revisa el presupuesto. Segura entre hilos.
+     * @param cantidad Nodos explorados desde la última llamada.
+     * @return true si se agotó el presupuesto o se canceló.
+     */
+    public boolean registrarNodos(long cantidad) {
+        long total = nodos.addAndGet(cantidad);
+        if (maxNodos > 0 && total >= maxNodos) {
+            marcar("se alcanzó el máximo de nodos");
+        }
+        return revisarAhora();
+    }
+
+    /**
+     * Revisa el reloj y marca el presupuesto como agotado si ya pasó el tiempo.
+     * @return true si se agotó el presupuesto o se canceló.
+     */
+    public boolean revisarAhora() {
+        if (duracionNanos > 0 && !agotado && System.nanoTime() - fin >= 0) {
+            marcar("se agotó el tiempo máximo");
+        }
+        return agotado;
+    }
+
+    /**
+     * Pide al algoritmo (y a los de los presupuestos hijos) que se detenga lo antes posible.
+     * Se puede llamar desde cualquier hilo.
+     */
+    public void cancelar() {
+        synchronized (this) {
+            cancelado = true;
+            marcar("fue cancelada");
+        }
+        for (Presupuesto hijo : hijos) {
+            hijo.cancelar();
+        }
+    }
+
+    private synchronized void marcar(String razon) {
+        if (!agotado) {
+            motivo = razon;
+            agotado = true;
+        }
+    }
+
+    /**
+     * Indica si el presupuesto ya fue marcado como agotado, sin revisar el reloj.
+     * @return true si se agotó el presupuesto o se canceló.
+     */
+    public boolean isAgotado() {
+        return agotado;
+    }
+
+    /**
+     * Indica si la ejecución fue cancelada con cancelar().
+     * @return true si se canceló.
+     */
+    public boolean isCancelado() {
+        return cancelado;
+    }
+
+    /**
+     * Obtiene el motivo por el que se detuvo la ejecución.
+     * @return Motivo, o null si el presupuesto no se agotó.
+     */
+    public String getMotivo() {
+        return motivo;
+    }
+
+    /**
+     * Obtiene los nodos registrados (con la precisión de INTERVALO_REVISION en agotado()).
+     * @return Nodos registrados.
+     */
+    public long getNodos() {
+        return nodos.get();
+    }
+
+    /**
+     * Activa o desactiva la medición de memoria de las ejecuciones con este presupuesto.
+     * @param medirMemoria false para no forzar el recolector ni muestrear el heap.
+     */
+    public void setMedirMemoria(boolean medirMemoria) {
+        this.medirMemoria = medirMemoria;
+    }
+
+    /**
+     * Indica si se mide la memoria de la ejecución.
+     * @return true si se mide.
+     */
+    public boolean isMedirMemoria() {
+        return medirMemoria;
+    }
+
+    /**
+     * Indica si hay tiempo o nodos máximos.
+     * @return true si el presupuesto tiene algún límite.
+     */
+    public boolean tieneLimite() {
+        return duracionNanos > 0 || maxNodos > 0;
+    }
+}
@@ -0,0 +1,274 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Clase que guarda periódicamente el estado de una búsqueda larga en un archivo binario,
+ * para continuarla después de una caída o reinicio (ver Reanudable).
+ *
+ * El algoritmo arma el estado en memoria (pocos KB) y lo entrega con guardar(); un hilo aparte
+ * lo escribe en un archivo temporal y lo mueve sobre el anterior, por lo que la búsqueda no se
+ * detiene por la escritura y el archivo siempre queda completo. Si llega un estado nuevo antes de
+ * escribir el anterior, solo se escribe el más reciente.
+ *
+ * Formato (big-endian): encabezado de ENCABEZADO bytes con el número mágico "RMPC", la versión,
+ * el algoritmo, el tamaño del tablero, la cantidad de piezas, una huella de los lados de las piezas
+ * (para no continuar con otra instancia), los cuatro contadores y el tiempo ya transcurrido;
+ * después, los datos propios del algoritmo.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class PuntoControl implements AutoCloseable {
+
+    public static final int MAGICO = 0x524D5043; // "RMPC"
+    public static final int VERSION = 1;
+    public static final int ENCABEZADO = 4 + 1 + 1 + 2 + 4 + 4 + 8 + 5 * 8;
+
+    // Algoritmos que guardan estado
+    public static final byte FUERZA_BRUTA = 1;
+    public static final byte AVANCE_RAPIDO = 2;
+    public static final byte GENETICO = 3;
+
+    private final Path archivo;
+    private final long intervaloNanos;
+    private long siguiente;
+
+    // Último estado pendiente de escribir y si hay una escritura programada
+    private final AtomicReference<byte[]> pendiente = new AtomicReference<>();
+    private final AtomicBoolean programada = new AtomicBoolean();
+    private final ExecutorService escritor;
+    private volatile IOException error;
+    private volatile long escritos;
+
+    /**
+     * Constructor.
+     * @param archivo Archivo donde se guarda el estado (se reemplaza en cada escritura).
+     * @param intervaloMs Tiempo mínimo entre dos estados guardados.
+     */
+    public PuntoControl(Path archivo, long intervaloMs) {
+        if (intervaloMs < 0) {
+            throw new IllegalArgumentException("El intervalo no puede ser negativo");
+        }
+        this.archivo = archivo;
+        this.intervaloNanos = intervaloMs * 1_000_000L;
+        this.siguiente = System.nanoTime() + intervaloNanos;
+        this.escritor = Executors.newSingleThreadExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "punto-control");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    /**
+     * Indica si ya pasó el intervalo desde el último estado guardado. Es barato (una lectura del reloj),
+     * pero se recomienda llamarlo cada cierta cantidad de nodos.
+     * @return true si corresponde guardar el estado.
+     */
+    public boolean toca() {
+        return System.nanoTime() - siguiente >= 0;
+    }
+
+    /**
+     * Entrega un estado para escribirlo en segundo plano y reinicia el intervalo.
+     * @param estado Bytes del estado (encabezado y datos), que no deben modificarse después.
+     */
+    public void guardar(byte[] estado) {
+        siguiente = System.nanoTime() + intervaloNanos;
+        pendiente.set(estado);
+        if (programada.compareAndSet(false, true)) {
+            escritor.execute(this::escribirPendiente);
+        }
+    }
+
+    private void escribirPendiente() {
+        programada.set(false);
+        byte[] estado = pendiente.getAndSet(null);
+        if (estado == null) {
+            return;
+        }
+        try {
+            Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+            Files.write(temporal, estado);
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            escritos++;
+        } catch (IOException e) {
+            error = e;
+        }
+    }
+
+    /**
+     * Espera a que se escriba el último estado entregado y detiene el hilo de escritura.
+     * @throws IOException Si alguna escritura falló.
+     */
+    @Override
+    public void close() throws IOException {
+        escritor.shutdown();
+        try {
+            escritor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Espera las escrituras pendientes y borra el archivo, para cuando la búsqueda terminó
+     * (encontró solución o recorrió todo el espacio) y ya no hay nada que continuar.
+     * @throws IOException Si no se pudo borrar el archivo.
+     */
+    public void descartar() throws IOException {
+        close();
+        Files.deleteIfExists(archivo);
+    }
+
+    /**
+     * Crea el flujo de un estado nuevo y escribe su encabezado.
+     * @param bytes Destino del estado (se entrega después con guardar(bytes.toByteArray())).
+     * @param algoritmo FUERZA_BRUTA, AVANCE_RAPIDO o GENETICO.
+     * @param tamaño Tamaño del tablero.
+     * @param piezas Piezas de la instancia.
+     * @param metricas Contadores a guardar.
+     * @param nanos Tiempo transcurrido de la búsqueda, incluidas las ejecuciones anteriores.
+     * @return Flujo para escribir los datos del algoritmo.
+     * @throws IOException No ocurre al escribir en memoria.
+     */
+    public static DataOutputStream iniciarEstado(ByteArrayOutputStream bytes, byte algoritmo, int tamaño,
+                                                 ArrayList<Pieza> piezas, Metricas metricas, long nanos)
+            throws IOException {
+        DataOutputStream salida = new DataOutputStream(bytes);
+        salida.writeInt(MAGICO);
+        salida.writeByte(VERSION);
+        salida.writeByte(algoritmo);
+        salida.writeShort(0);
+        salida.writeInt(tamaño);
+        salida.writeInt(piezas.size());
+        salida.writeLong(huella(piezas));
+        salida.writeLong(metricas.getComparaciones());
+        salida.writeLong(metricas.getAsignaciones());
+        salida.writeLong(metricas.getAlternativas());
+        salida.writeLong(metricas.getPodas());
+        salida.writeLong(nanos);
+        return salida;
+    }
+
+    /**
+     * Lee un estado guardado y valida que corresponda al algoritmo y a la instancia.
+     * @param archivo Archivo del estado.
+     * @param algoritmo Algoritmo que lo va a continuar.
+     * @param tamaño Tamaño del tablero.
+     * @param piezas Piezas de la instancia.
+     * @return Estado con los contadores y el flujo de los datos del algoritmo.
+     * @throws IOException Si no se puede leer o no corresponde.
+     */
+    public static Estado leer(Path archivo, byte algoritmo, int tamaño, ArrayList<Pieza> piezas) throws IOException {
+        byte[] contenido = Files.readAllBytes(archivo);
+        if (contenido.length < ENCABEZADO) {
+            throw new IOException(archivo + " está incompleto");
+        }
+        DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(contenido));
+        if (entrada.readInt() != MAGICO) {
+            throw new IOException(archivo + " no es un punto de control");
+        }
+        int version = entrada.readByte();
+        if (version != VERSION) {
+            throw new IOException(archivo + " tiene la versión " + version + " del formato; se esperaba " + VERSION);
+        }
+        int guardado = entrada.readByte();
+        entrada.readShort();
+        if (guardado != algoritmo) {
+            throw new IOException(archivo + " es de otro algoritmo (" + guardado + ")");
+        }
+        if (entrada.readInt() != tamaño || entrada.readInt() != piezas.size() || entrada.readLong() != huella(piezas)) {
+            throw new IOException(archivo + " es de otra instancia del rompecabezas");
+        }
+        return new Estado(entrada, entrada.readLong(), entrada.readLong(), entrada.readLong(), entrada.readLong(),
+                          entrada.readLong());
+    }
+
+    /**
+     * Huella de una instancia: hash de los lados de todas las piezas en orden.
+     */
+    private static long huella(ArrayList<Pieza> piezas) {
+        long h = piezas.size();
+        for (Pieza pieza : piezas) {
+            h = mezclar(h ^ pieza.getArriba());
+            h = mezclar(h ^ pieza.getDerecha());
+            h = mezclar(h ^ pieza.getAbajo());
+            h = mezclar(h ^ pieza.getIzquierda());
+        }
+        return h;
+    }
+
+    /**
+     * Mezcla los bits de un valor (finalizador de SplitMix64), para combinar hashes.
+     */
+    private static long mezclar(long valor) {
+        valor = (valor ^ (valor >>> 30)) * 0xBF58476D1CE4E5B9L;
+        valor = (valor ^ (valor >>> 27)) * 0x94D049BB133111EBL;
+        return valor ^ (valor >>> 31);
+    }
+
+    // Getters
+    public Path getArchivo() {
+        return archivo;
+    }
+    public long getEscritos() {
+        return escritos;
+    }
+
+    /**
+     * Estado leído de un archivo: contadores, tiempo transcurrido y flujo de los datos del algoritmo.
+     */
+    public static class Estado {
+
+        private final DataInputStream datos;
+        private final long comparaciones;
+        private final long asignaciones;
+        private final long alternativas;
+        private final long podas;
+        private final long nanos;
+
+        private Estado(DataInputStream datos, long comparaciones, long asignaciones, long alternativas, long podas,
+                       long nanos) {
+            this.datos = datos;
+            this.comparaciones = comparaciones;
+            this.asignaciones = asignaciones;
+            this.alternativas = alternativas;
+            this.podas = podas;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Deja los contadores de las métricas con los valores guardados
+         * (descarta lo que se haya contado al reconstruir el estado).
+         * @param metricas Métricas del algoritmo que continúa.
+         */
+        public void restaurarMetricas(Metricas metricas) {
+            metricas.sumarComparaciones(comparaciones - metricas.getComparaciones());
+            metricas.sumarAsignaciones(asignaciones - metricas.getAsignaciones());
+            metricas.sumarAlternativas(alternativas - metricas.getAlternativas());
+            metricas.sumarPodas(podas - metricas.getPodas());
+        }
+
+        // Getters
+        public DataInputStream getDatos() {
+            return datos;
+        }
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Interfaz de los algoritmos cuya ejecución se puede guardar periódicamente y continuar después
+ * (FuerzaBruta, AvanceRapido y Genetico). Los estados se guardan con un PuntoControl: cada cierto
+ * tiempo y al agotarse el presupuesto. Para continuar, se crea el algoritmo con las mismas piezas
+ * y parámetros, se llama a reanudar() y luego a resolver(); los contadores y el tiempo del
+ * resultado incluyen los de las ejecuciones anteriores.
+ *
+ * FuerzaBruta y Genetico continúan exactamente como sin interrupción. AvanceRapido restaura las celdas
+ * y el orden de los dominios de la pila, pero no el desempate entre celdas ni el orden de las celdas aún
+ * no elegidas (que dependen de las ramas ya recorridas), por lo que recorre lo que falta sin omitir
+ * candidatas, aunque en otro orden. MainPuntoControl --verificar comprueba ambos casos.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public interface Reanudable extends Resolvedor {
+
+    /**
+     * Activa los puntos de control de las siguientes ejecuciones. Quien lo crea lo cierra al terminar
+     * (close() si la búsqueda quedó incompleta, descartar() si terminó).
+     * @param puntoControl Destino de los estados, o null para no guardarlos.
+     */
+    void setPuntoControl(PuntoControl puntoControl);
+
+    /**
+     * Carga un estado guardado; la siguiente llamada a resolver() continúa desde él.
+     * Si falla, el algoritmo queda en un estado incompleto y no debe usarse.
+     * @param archivo Archivo del punto de control.
+     * @throws IOException Si no se puede leer o es de otro algoritmo, parámetros o instancia.
+     */
+    void reanudar(Path archivo) throws IOException;
+}
@@ -0,0 +1,183 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Clase auxiliar que dibuja un tablero de piezas en texto.
+ * Cada pieza ocupa 3 líneas (arriba, izquierda-centro-derecha y abajo), igual que
+ * Pieza.visualizacionLineas, pero el tablero completo se escribe en una sola pasada en un
+ * búfer de bytes reutilizable y se envía a la salida con una sola escritura, sin String.format
+ * ni un print por fragmento. El texto solo tiene caracteres ASCII, por lo que no se codifica.
+ *
+ * Para tableros grandes escribir(...) transmite el tablero a un FileChannel fila por fila,
+ * sin armar todo el texto en memoria.
+ * Cada hilo usa su propia instancia (delHilo()) porque el búfer no es seguro entre hilos.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class RenderizadorTablero {
+
+    private static final ThreadLocal<RenderizadorTablero> POR_HILO =
+        ThreadLocal.withInitial(RenderizadorTablero::new);
+
+    private static final byte[] SALTO = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    // Celda vacía, igual a la que imprimía Tablero.imprimirVacio
+    private static final byte[] VACIA_BORDE = "  --   ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] VACIA_CENTRO = "--     -- ".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer;
+    private int longitud;
+
+    /**
+     * Constructor.
+     */
+    public RenderizadorTablero() {
+        this.buffer = new byte[4096];
+    }
+
+    /**
+     * Obtiene el renderizador reutilizable del hilo actual.
+     * @return Renderizador del hilo.
+     */
+    public static RenderizadorTablero delHilo() {
+        return POR_HILO.get();
+    }
+
+    /**
+     * Imprime el tablero completo con una sola escritura.
+     * @param celdas Piezas por fila y columna; las celdas null se dibujan vacías.
+     * @param marcar true para marcar el centro de cada pieza con "*".
+     * @param salida Flujo de salida (por ejemplo System.out).
+     */
+    public void imprimir(Pieza[][] celdas, boolean marcar, PrintStream salida) {
+        longitud = 0;
+        for (int i = 0; i < celdas.length; i++) {
+            agregarFila(celdas[i], marcar);
+        }
+        salida.write(buffer, 0, longitud);
+        salida.flush();
+    }
+
+    /**
+     * Dibuja el tablero completo y lo devuelve como texto.
+     * @param celdas Piezas por fila y columna; las celdas null se dibujan vacías.
+     * @param marcar true para marcar el centro de cada pieza con "*".
+     * @return Texto del tablero.
+     */
+    public String aTexto(Pieza[][] celdas, boolean marcar) {
+        longitud = 0;
+        for (int i = 0; i < celdas.length; i++) {
+            agregarFila(celdas[i], marcar);
+        }
+        return new String(buffer, 0, longitud, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Transmite el tablero a un canal de archivo, una fila de piezas por escritura.
+     * @param celdas Piezas por fila y columna; las celdas null se dibujan vacías.
+     * @param marcar true para marcar el centro de cada pieza con "*".
+     * @param canal Canal abierto para escritura.
+     * @throws IOException Si falla la escritura.
+     */
+    public void escribir(Pieza[][] celdas, boolean marcar, FileChannel canal) throws IOException {
+        for (int i = 0; i < celdas.length; i++) {
+            longitud = 0;
+            agregarFila(celdas[i], marcar);
+            ByteBuffer bloque = ByteBuffer.wrap(buffer, 0, longitud);
+            while (bloque.hasRemaining()) {
+                canal.write(bloque);
+            }
+        }
+    }
+
+    /**
+     * Transmite el tablero a un archivo (lo crea o lo reemplaza).
+     * @param celdas Piezas por fila y columna; las celdas null se dibujan vacías.
+     * @param marcar true para marcar el centro de cada pieza con "*".
+     * @param archivo Ruta del archivo.
+     * @throws IOException Si no se puede escribir el archivo.
+     */
+    public void escribir(Pieza[][] celdas, boolean marcar, Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                                                  StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            escribir(celdas, marcar, canal);
+        }
+    }
+
+    /**
+     * Agrega al búfer las 3 líneas de una fila de piezas y la línea en blanco que la separa.
+     * @param fila Piezas de la fila.
+     * @param marcar true para marcar el centro de cada pieza con "*".
+     */
+    private void agregarFila(Pieza[] fila, boolean marcar) {
+        // Con valores de hasta 2 dígitos cada celda ocupa 8 bytes por línea (10 si está vacía)
+        asegurarEspacio(3 * (fila.length * 12 + SALTO.length) + SALTO.length);
+
+        for (int linea = 0; linea < 3; linea++) {
+            for (Pieza pieza : fila) {
+                if (pieza == null) {
+                    agregar(linea == 1 ? VACIA_CENTRO : VACIA_BORDE);
+                } else if (linea == 1) {
+                    agregarNumero(pieza.getIzquierda());
+                    agregar((byte) ' ');
+                    agregar(marcar ? (byte) '*' : (byte) ' ');
+                    agregar((byte) ' ');
+                    agregarNumero(pieza.getDerecha());
+                    agregar((byte) ' ');
+                } else {
+                    agregar((byte) ' ');
+                    agregar((byte) ' ');
+                    agregarNumero(linea == 0 ? pieza.getArriba() : pieza.getAbajo());
+                    agregar((byte) ' ');
+                    agregar((byte) ' ');
+                    agregar((byte) ' ');
+                    agregar((byte) ' ');
+                }
+            }
+            agregar(SALTO);
+        }
+        agregar(SALTO);
+    }
+
+    /**
+     * Agrega un número alineado a la derecha en al menos 2 caracteres (como "%2d").
+     * @param valor Número a agregar.
+     */
+    private void agregarNumero(int valor) {
+        if (valor >= 0 && valor < 10) {
+            agregar((byte) ' ');
+            agregar((byte) ('0' + valor));
+        } else if (valor >= 10 && valor < 100) {
+            agregar((byte) ('0' + valor / 10));
+            agregar((byte) ('0' + valor % 10));
+        } else {
+            agregar(Integer.toString(valor).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private void agregar(byte b) {
+        if (longitud == buffer.length) {
+            asegurarEspacio(1);
+        }
+        buffer[longitud++] = b;
+    }
+
+    private void agregar(byte[] bytes) {
+        asegurarEspacio(bytes.length);
+        System.arraycopy(bytes, 0, buffer, longitud, bytes.length);
+        longitud += bytes.length;
+    }
+
+    private void asegurarEspacio(int extra) {
+        if (longitud + extra > buffer.length) {
+            byte[] nuevo = new byte[Math.max(buffer.length * 2, longitud + extra)];
+            System.arraycopy(buffer, 0, nuevo, 0, longitud);
+            buffer = nuevo;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Interfaz común de los algoritmos que arman el rompecabezas.
+ * Cada algoritmo recibe las piezas y el tamaño del tablero en su constructor;
+ * resolver(presupuesto) ejecuta la búsqueda dentro del presupuesto y devuelve el resultado
+ * con el mejor tablero obtenido (completo o parcial), el fitness, los contadores y el tiempo.
+ * Para detener una ejecución desde otro hilo se llama a presupuesto.cancelar().
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public interface Resolvedor {
+
+    /**
+     * Resuelve el rompecabezas sin exceder el presupuesto.
+     * @param presupuesto Tiempo y nodos máximos, y cancelación.
+     * @return Resultado de la ejecución.
+     */
+    ResultadoEjecucion resolver(Presupuesto presupuesto);
+
+    /**
+     * Activa o desactiva la impresión del reporte y del tablero al terminar.
+     * @param mostrarResultados true para imprimir.
+     */
+    void setMostrarResultados(boolean mostrarResultados);
+}
@@ -0,0 +1,163 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Clase que resuelve muchas instancias independientes a la vez (modo de rendimiento).
+ * Cada instancia se resuelve con un algoritmo nuevo creado por la fábrica, en un hilo virtual
+ * por instancia o en un ejecutor con una cantidad fija de hilos.
+ *
+ * Las instancias se toman del flujo solo cuando hay lugar: como máximo maxEnVuelo instancias
+ * están generadas y sin terminar a la vez (contrapresión), por lo que el flujo puede ser muy
+ * largo o perezoso (Piezas.instancias) sin ocupar memoria de más.
+ * Cada instancia recibe un presupuesto hijo del recibido, con sus mismos límites; cancelar el
+ * presupuesto del lote detiene las instancias en curso y no se toman más. Las ejecuciones del
+ * lote no miden memoria, porque forzar el recolector por instancia dominaría el tiempo.
+ * Las piezas son inmutables, así que varias instancias pueden compartirlas.
+ *
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class ResolvedorLotes {
+
+    private final BiFunction<ArrayList<Pieza>, Integer, Resolvedor> fabrica;
+    private final int maxEnVuelo;
+    private final int hilos;
+
+    /**
+     * Constructor.
+     * @param fabrica Crea el algoritmo de una instancia a partir de sus piezas y su tamaño
+     *                (por ejemplo AvanceRapido::new).
+     * @param maxEnVuelo Máximo de instancias en curso a la vez (al menos 1).
+     * @param hilos Hilos del ejecutor; 0 para usar un hilo virtual por instancia.
+     */
+    public ResolvedorLotes(BiFunction<ArrayList<Pieza>, Integer, Resolvedor> fabrica, int maxEnVuelo, int hilos) {
+        if (maxEnVuelo < 1 || hilos < 0) {
+            throw new IllegalArgumentException("maxEnVuelo debe ser al menos 1 e hilos al menos 0");
+        }
+        this.fabrica = fabrica;
+        this.maxEnVuelo = maxEnVuelo;
+        this.hilos = hilos;
+    }
+
+    /**
+     * Resuelve todas las instancias del flujo.
+     * @param instancias Piezas de cada instancia (tamaño x tamaño piezas).
+     * @param presupuesto Límites de cada instancia y cancelación del lote.
+     * @return Resumen del lote.
+     */
+    public ResultadoLote resolver(Stream<ArrayList<Pieza>> instancias, Presupuesto presupuesto) {
+        return resolver(instancias.iterator(), presupuesto, null);
+    }
+
+    /**
+     * Resuelve todas las instancias e informa el resultado de cada una al terminar.
+     * @param instancias Piezas de cada instancia (tamaño x tamaño piezas).
+     * @param presupuesto Límites de cada instancia y cancelación del lote.
+     * @param alTerminar Recibe el resultado de cada instancia desde el hilo que la resolvió
+     *                   (debe ser seguro entre hilos); puede ser null.
+     * @return Resumen del lote.
+     */
+    public ResultadoLote resolver(Iterator<ArrayList<Pieza>> instancias, Presupuesto presupuesto,
+                                  Consumer<ResultadoEjecucion> alTerminar) {
+        Acumulado acumulado = new Acumulado();
+        Semaphore enVuelo = new Semaphore(maxEnVuelo);
+
+        long inicio = System.nanoTime();
+        ExecutorService pool = hilos == 0 ? Executors.newVirtualThreadPerTaskExecutor()
+                                          : Executors.newFixedThreadPool(hilos);
+        try {
+            // Se toma una instancia solo después de obtener un lugar
+            while (!presupuesto.isCancelado() && acumulado.error == null) {
+                enVuelo.acquire();
+                if (presupuesto.isCancelado() || acumulado.error != null || !instancias.hasNext()) {
+                    enVuelo.release();
+                    break;
+                }
+                ArrayList<Pieza> piezas = instancias.next();
+                long entrada = System.nanoTime();
+                pool.execute(() -> {
+                    Presupuesto hijo = presupuesto.crearHijo();
+                    try {
+                        Resolvedor resolvedor = fabrica.apply(piezas, (int) Math.round(Math.sqrt(piezas.size())));
+                        resolvedor.setMostrarResultados(false);
+                        ResultadoEjecucion resultado = resolvedor.resolver(hijo);
+                        acumulado.registrar(System.nanoTime() - entrada, resultado);
+                        if (alTerminar != null) {
+                            alTerminar.accept(resultado);
+                        }
+                    } catch (RuntimeException | Error e) {
+                        acumulado.fallar(e);
+                        presupuesto.cancelar();
+                    } finally {
+                        presupuesto.liberarHijo(hijo);
+                        enVuelo.release();
+                    }
+                });
+            }
+            // Esperar a que terminen las instancias en curso
+            enVuelo.acquire(maxEnVuelo);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            presupuesto.cancelar();
+            throw new IllegalStateException("Ejecución del lote interrumpida", e);
+        } finally {
+            pool.shutdown();
+        }
+        long fin = System.nanoTime();
+
+        if (acumulado.error != null) {
+            throw new IllegalStateException("Error al resolver una instancia del lote", acumulado.error);
+        }
+        return acumulado.aResultado(fin - inicio);
+    }
+
+    /**
+     * Acumula los resultados de las instancias de un lote. Seguro entre hilos.
+     */
+    private static class Acumulado {
+
+        private String algoritmo = "";
+        private long[] latencias = new long[1024];
+        private int cantidad;
+        private int resueltas;
+        private int limiteAlcanzado;
+        private long comparaciones;
+        private long asignaciones;
+        private volatile Throwable error;
+
+        synchronized void registrar(long latencia, ResultadoEjecucion resultado) {
+            if (cantidad == latencias.length) {
+                latencias = Arrays.copyOf(latencias, cantidad * 2);
+            }
+            latencias[cantidad++] = latencia;
+            if (cantidad == 1) {
+                algoritmo = resultado.getAlgoritmo();
+            }
+            if (resultado.isSolucionEncontrada()) {
+                resueltas++;
+            } else if (resultado.isLimiteAlcanzado()) {
+                limiteAlcanzado++;
+            }
+            comparaciones += resultado.getComparaciones();
+            asignaciones += resultado.getAsignaciones();
+        }
+
+        synchronized void fallar(Throwable e) {
+            if (error == null) {
+                error = e;
+            }
+        }
+
+        synchronized ResultadoLote aResultado(long tiempoNanos) {
+            return new ResultadoLote(algoritmo, resueltas, limiteAlcanzado, tiempoNanos,
+                                     Arrays.copyOf(latencias, cantidad), comparaciones, asignaciones);
+        }
+    }
+}
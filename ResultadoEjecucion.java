@@ -0,0 +1,146 @@
+/**
+ * Resultado estructurado de la ejecución de un algoritmo:
+ * si encontró solución, si se agotó el presupuesto, el mejor tablero obtenido (completo
+ * o parcial) con su calidad, el tiempo, la memoria y los contadores.
+ * Lo genera cada algoritmo al terminar de resolver (Resolvedor.resolver o getResultado()).
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class ResultadoEjecucion {
+
+    private final String algoritmo;
+    private final boolean solucionEncontrada;
+    private final boolean limiteAlcanzado;
+    private final Tablero mejorTablero;
+    private final int fitness;
+    private final int fitnessMaximo;
+    private final long tiempoNanos;
+    private final long bytesAsignados;
+    private final long picoHeapUsado;
+    private final long comparaciones;
+    private final long asignaciones;
+    private final long alternativas;
+    private final long podas;
+
+    /**
+     * Constructor.
+     * @param algoritmo Nombre del algoritmo.
+     * @param solucionEncontrada true si se armó el rompecabezas completo.
+     * @param limiteAlcanzado true si la ejecución se detuvo por agotar el presupuesto o por cancelación.
+     * @param mejorTablero Mejor tablero obtenido (la solución, o un tablero parcial o aproximado).
+     * @param fitness Lados que coinciden en el mejor tablero obtenido.
+     * @param fitnessMaximo Lados que coinciden en un tablero resuelto.
+     * @param tiempoNanos Duración en nanosegundos.
+     * @param medicion Medición de memoria ya detenida.
+     * @param metricas Contadores de la ejecución.
+     */
+    public ResultadoEjecucion(String algoritmo, boolean solucionEncontrada, boolean limiteAlcanzado,
+                              Tablero mejorTablero, int fitness, int fitnessMaximo, long tiempoNanos,
+                              MedicionMemoria medicion, Metricas metricas) {
+        this(algoritmo, solucionEncontrada, limiteAlcanzado, mejorTablero, fitness, fitnessMaximo, tiempoNanos,
+             medicion.getBytesAsignados(), medicion.getPicoHeapUsado(),
+             metricas.getComparaciones(), metricas.getAsignaciones(), metricas.getAlternativas(), metricas.getPodas());
+    }
+
+    /**
+     * Constructor con todos los valores.
+     * @param algoritmo Nombre del algoritmo.
+     * @param solucionEncontrada true si se armó el rompecabezas completo.
+     * @param limiteAlcanzado true si la ejecución se detuvo por agotar el presupuesto o por cancelación.
+     * @param mejorTablero Mejor tablero obtenido (la solución, o un tablero parcial o aproximado).
+     * @param fitness Lados que coinciden en el mejor tablero obtenido.
+     * @param fitnessMaximo Lados que coinciden en un tablero resuelto.
+     * @param tiempoNanos Duración en nanosegundos.
+     * @param bytesAsignados Bytes asignados en el heap.
+     * @param picoHeapUsado Pico muestreado del heap usado (con basura) sobre el inicial, en bytes.
+     * @param comparaciones Comparaciones realizadas.
+     * @param asignaciones Asignaciones realizadas.
+     * @param alternativas Alternativas exploradas (piezas probadas).
+     * @param podas Ramas descartadas sin explorarlas.
+     */
+    public ResultadoEjecucion(String algoritmo, boolean solucionEncontrada, boolean limiteAlcanzado,
+                              Tablero mejorTablero, int fitness, int fitnessMaximo, long tiempoNanos,
+                              long bytesAsignados, long picoHeapUsado, long comparaciones, long asignaciones,
+                              long alternativas, long podas) {
+        this.algoritmo = algoritmo;
+        this.solucionEncontrada = solucionEncontrada;
+        this.limiteAlcanzado = limiteAlcanzado;
+        this.mejorTablero = mejorTablero;
+        this.fitness = fitness;
+        this.fitnessMaximo = fitnessMaximo;
+        this.tiempoNanos = tiempoNanos;
+        this.bytesAsignados = bytesAsignados;
+        this.picoHeapUsado = picoHeapUsado;
+        this.comparaciones = comparaciones;
+        this.asignaciones = asignaciones;
+        this.alternativas = alternativas;
+        this.podas = podas;
+    }
+
+    /**
+     * Imprime las líneas de memoria del reporte de un algoritmo.
+     */
+    public void imprimirMemoria() {
+        if (bytesAsignados < 0) {
+            System.out.println("Memoria: no medida");
+            return;
+        }
+        System.out.println("Memoria asignada: " + (bytesAsignados / 1024) + " KB");
+        System.out.println("Pico de heap usado (muestreado, incluye basura): " + (picoHeapUsado / 1024) + " KB");
+    }
+
+    // Getters
+    public String getAlgoritmo() {
+        return algoritmo;
+    }
+    public boolean isSolucionEncontrada() {
+        return solucionEncontrada;
+    }
+    public boolean isLimiteAlcanzado() {
+        return limiteAlcanzado;
+    }
+    public Tablero getMejorTablero() {
+        return mejorTablero;
+    }
+    public int getFitness() {
+        return fitness;
+    }
+    public int getFitnessMaximo() {
+        return fitnessMaximo;
+    }
+    public long getTiempoNanos() {
+        return tiempoNanos;
+    }
+    public double getTiempoSegundos() {
+        return tiempoNanos / 1_000_000_000.0;
+    }
+    public long getBytesAsignados() {
+        return bytesAsignados;
+    }
+    public long getPicoHeapUsado() {
+        return picoHeapUsado;
+    }
+    public long getComparaciones() {
+        return comparaciones;
+    }
+    public long getAsignaciones() {
+        return asignaciones;
+    }
+    public long getAlternativas() {
+        return alternativas;
+    }
+    public long getPodas() {
+        return podas;
+    }
+    public long getInstrucciones() {
+        return comparaciones + asignaciones;
+    }
+
+    @Override
+    public String toString() {
+        return algoritmo + " | solución: " + solucionEncontrada + (limiteAlcanzado ? " (detenido)" : "")
+               + " | fitness: " + fitness + "/" + fitnessMaximo
+               + " | " + String.format("%.3f s", getTiempoSegundos())
+               + " | asignada: " + (bytesAsignados / 1024) + " KB | pico de heap usado: " + (picoHeapUsado / 1024) + " KB";
+    }
+}
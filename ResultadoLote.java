@@ -0,0 +1,127 @@
+import java.util.Arrays;
+
+/**
+ * Resultado de resolver un lote de instancias (ResolvedorLotes):
+ * cantidad de instancias, cuántas se resolvieron o agotaron su presupuesto, el tiempo total,
+ * las instancias por segundo y la latencia de cada instancia (percentiles).
+ * La latencia de una instancia va desde que entra al lote hasta que termina de resolverse,
+ * por lo que incluye la espera en la cola del ejecutor.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class ResultadoLote {
+
+    private final String algoritmo;
+    private final int instancias;
+    private final int resueltas;
+    private final int limiteAlcanzado;
+    private final long tiempoNanos;
+    private final long[] latencias;
+    private final long comparaciones;
+    private final long asignaciones;
+
+    /**
+     * Constructor.
+     * @param algoritmo Nombre del algoritmo (el de la primera instancia).
+     * @param resueltas Instancias con solución exacta.
+     * @param limiteAlcanzado Instancias que agotaron su presupuesto sin solución.
+     * @param tiempoNanos Duración total del lote en nanosegundos.
+     * @param latencias Latencia de cada instancia en nanosegundos (se ordena).
+     * @param comparaciones Suma de las comparaciones de todas las instancias.
+     * @param asignaciones Suma de las asignaciones de todas las instancias.
+     */
+    public ResultadoLote(String algoritmo, int resueltas, int limiteAlcanzado, long tiempoNanos,
+                         long[] latencias, long comparaciones, long asignaciones) {
+        this.algoritmo = algoritmo;
+        this.instancias = latencias.length;
+        this.resueltas = resueltas;
+        this.limiteAlcanzado = limiteAlcanzado;
+        this.tiempoNanos = tiempoNanos;
+        this.latencias = latencias;
+        this.comparaciones = comparaciones;
+        this.asignaciones = asignaciones;
+        Arrays.sort(this.latencias);
+    }
+
+    /**
+     * Obtiene la latencia de un percentil (método del rango más cercano).
+     * @param percentil Percentil entre 0 y 100 (por ejemplo 50, 95 o 99).
+     * @return Latencia en nanosegundos, o 0 si el lote está vacío.
+     */
+    public long getLatenciaPercentil(double percentil) {
+        if (instancias == 0) {
+            return 0;
+        }
+        int rango = (int) Math.ceil(percentil / 100.0 * instancias);
+        return latencias[Math.min(instancias, Math.max(1, rango)) - 1];
+    }
+
+    /**
+     * Obtiene la latencia promedio.
+     * @return Latencia en nanosegundos, o 0 si el lote está vacío.
+     */
+    public long getLatenciaPromedio() {
+        if (instancias == 0) {
+            return 0;
+        }
+        long suma = 0;
+        for (long latencia : latencias) {
+            suma += latencia;
+        }
+        return suma / instancias;
+    }
+
+    /**
+     * Obtiene la cantidad de instancias resueltas por segundo en el lote.
+     * @return Instancias por segundo.
+     */
+    public double getInstanciasPorSegundo() {
+        return tiempoNanos > 0 ? instancias / (tiempoNanos / 1e9) : 0;
+    }
+
+    /**
+     * Imprime el resumen del lote.
+     */
+    public void imprimir() {
+        System.out.println("====== Lote: " + algoritmo + " ======");
+        System.out.println("Instancias: " + instancias + " | Resueltas: " + resueltas
+                           + " | Límite alcanzado: " + limiteAlcanzado);
+        System.out.println("Duración: " + String.format("%.3f s", tiempoNanos / 1e9));
+        System.out.println("Rompecabezas por segundo: " + String.format("%.1f", getInstanciasPorSegundo()));
+        System.out.println("Latencia (ms): promedio " + ms(getLatenciaPromedio())
+                           + " | p50 " + ms(getLatenciaPercentil(50))
+                           + " | p90 " + ms(getLatenciaPercentil(90))
+                           + " | p99 " + ms(getLatenciaPercentil(99))
+                           + " | máx " + ms(getLatenciaPercentil(100)));
+        System.out.println("Comparaciones: " + comparaciones);
+        System.out.println("Asignaciones: " + asignaciones);
+        System.out.println("=============================");
+    }
+
+    private static String ms(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+
+    // Getters
+    public String getAlgoritmo() {
+        return algoritmo;
+    }
+    public int getInstancias() {
+        return instancias;
+    }
+    public int getResueltas() {
+        return resueltas;
+    }
+    public int getLimiteAlcanzado() {
+        return limiteAlcanzado;
+    }
+    public long getTiempoNanos() {
+        return tiempoNanos;
+    }
+    public long getComparaciones() {
+        return comparaciones;
+    }
+    public long getAsignaciones() {
+        return asignaciones;
+    }
+}
@@ -0,0 +1,187 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Clase que lee un archivo .rmp (ArchivoRompecabezas) mapeado en memoria, sin crear objetos Pieza.
+ * Los lados se decodifican directamente del mapeo cada vez que se consultan, por lo que el heap
+ * no crece con el tamaño del tablero: un 10000x10000 con rango 0..15 son 200 MB de archivo
+ * que el sistema operativo carga por páginas a medida que se leen.
+ * Las piezas se identifican por su posición en el archivo (id de 0 a tamaño * tamaño - 1), y una
+ * distribución del tablero es un arreglo con el id de la pieza de cada celda (fila * tamaño + columna).
+ *
+ * Un solo mapeo admite hasta 2 GB, por lo que los archivos más grandes se mapean en segmentos de 1 GB.
+ * Es seguro consultarlo desde varios hilos (solo se usan lecturas absolutas).
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class RompecabezasMapeado {
+
+    // Lados de cada pieza, en el orden del archivo
+    public static final int ARRIBA = 0;
+    public static final int DERECHA = 1;
+    public static final int ABAJO = 2;
+    public static final int IZQUIERDA = 3;
+
+    private static final int BITS_SEGMENTO = 30;
+    private static final long MASCARA_SEGMENTO = (1L << BITS_SEGMENTO) - 1;
+
+    private final MappedByteBuffer[] segmentos;
+    private final int tamaño;
+    private final int valorMaximo;
+    private final long semilla;
+    private final int bits;
+    private final int mascara;
+
+    /**
+     * Mapea un archivo de rompecabezas y valida su encabezado.
+     * @param archivo Ruta del archivo .rmp.
+     * @throws IOException Si no se puede leer el archivo o no tiene el formato esperado.
+     */
+    public RompecabezasMapeado(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long largo = canal.size();
+            if (largo < ArchivoRompecabezas.ENCABEZADO) {
+                throw new IOException(archivo + " está incompleto");
+            }
+            ByteBuffer encabezado = canal.map(FileChannel.MapMode.READ_ONLY, 0, ArchivoRompecabezas.ENCABEZADO);
+            if (encabezado.getInt() != ArchivoRompecabezas.MAGICO) {
+                throw new IOException(archivo + " no es un archivo de rompecabezas");
+            }
+            int version = encabezado.get();
+            if (version != ArchivoRompecabezas.VERSION) {
+                throw new IOException(archivo + " tiene la versión " + version + " del formato; se esperaba "
+                                      + ArchivoRompecabezas.VERSION);
+            }
+            this.bits = encabezado.get();
+            encabezado.getShort();
+            this.tamaño = encabezado.getInt();
+            this.valorMaximo = encabezado.getInt();
+            this.semilla = encabezado.getLong();
+            if (bits < 1 || bits > 31 || tamaño < 1 || (long) tamaño * tamaño > Integer.MAX_VALUE) {
+                throw new IOException(archivo + " tiene un encabezado inválido");
+            }
+            this.mascara = (1 << bits) - 1;
+
+            long bytesLados = ((long) tamaño * tamaño * 4 * bits + 7) / 8;
+            if (largo - ArchivoRompecabezas.ENCABEZADO < bytesLados) {
+                throw new IOException(archivo + " está incompleto");
+            }
+
+            // El mapeo sigue siendo válido después de cerrar el canal
+            int cantidad = (int) ((bytesLados + MASCARA_SEGMENTO) >>> BITS_SEGMENTO);
+            this.segmentos = new MappedByteBuffer[Math.max(1, cantidad)];
+            for (int k = 0; k < segmentos.length; k++) {
+                long inicio = (long) k << BITS_SEGMENTO;
+                long tamañoSegmento = Math.min(1L << BITS_SEGMENTO, bytesLados - inicio);
+                segmentos[k] = canal.map(FileChannel.MapMode.READ_ONLY, ArchivoRompecabezas.ENCABEZADO + inicio,
+                                         Math.max(0, tamañoSegmento));
+            }
+        }
+    }
+
+    /**
+     * Obtiene un lado de una pieza leyendo directamente del mapeo.
+     * @param pieza Id de la pieza.
+     * @param lado ARRIBA, DERECHA, ABAJO o IZQUIERDA.
+     * @return Valor del lado.
+     */
+    public int lado(int pieza, int lado) {
+        long bit = ((long) pieza * 4 + lado) * bits;
+        long posicion = bit >>> 3;
+        int desplazamiento = (int) (bit & 7);
+
+        // Leer los bytes que contienen el lado (a lo sumo 5 con 31 bits)
+        int bytes = (desplazamiento + bits + 7) >>> 3;
+        long valor = 0;
+        for (int k = 0; k < bytes; k++) {
+            valor = (valor << 8) | (byteEn(posicion + k) & 0xFF);
+        }
+        return (int) (valor >>> (bytes * 8 - desplazamiento - bits)) & mascara;
+    }
+
+    private byte byteEn(long posicion) {
+        return segmentos[(int) (posicion >>> BITS_SEGMENTO)].get((int) (posicion & MASCARA_SEGMENTO));
+    }
+
+    public int getArriba(int pieza) {
+        return lado(pieza, ARRIBA);
+    }
+
+    public int getDerecha(int pieza) {
+        return lado(pieza, DERECHA);
+    }
+
+    public int getAbajo(int pieza) {
+        return lado(pieza, ABAJO);
+    }
+
+    public int getIzquierda(int pieza) {
+        return lado(pieza, IZQUIERDA);
+    }
+
+    /**
+     * Crea el objeto Pieza de un id, para mostrar o usar algunas piezas con los demás algoritmos.
+     * @param pieza Id de la pieza.
+     * @return Nueva pieza con los lados del archivo.
+     */
+    public Pieza getPieza(int pieza) {
+        return new Pieza(getArriba(pieza), getDerecha(pieza), getAbajo(pieza), getIzquierda(pieza));
+    }
+
+    /**
+     * Cuenta los lados internos que coinciden en una distribución del tablero (su fitness),
+     * leyendo los lados del mapeo. Las celdas con id negativo se consideran vacías.
+     * @param ids Id de la pieza de cada celda (fila * tamaño + columna).
+     * @return Cantidad de lados que coinciden.
+     */
+    public long contarCoincidencias(int[] ids) {
+        long coincidencias = 0;
+        for (int i = 0; i < tamaño; i++) {
+            int fila = i * tamaño;
+            for (int j = 0; j < tamaño; j++) {
+                int pieza = ids[fila + j];
+                if (pieza < 0) {
+                    continue;
+                }
+                if (j + 1 < tamaño && ids[fila + j + 1] >= 0
+                        && getDerecha(pieza) == getIzquierda(ids[fila + j + 1])) {
+                    coincidencias++;
+                }
+                if (i + 1 < tamaño && ids[fila + tamaño + j] >= 0
+                        && getAbajo(pieza) == getArriba(ids[fila + tamaño + j])) {
+                    coincidencias++;
+                }
+            }
+        }
+        return coincidencias;
+    }
+
+    /**
+     * Lados que coinciden en un tablero resuelto.
+     * @return 2 * tamaño * (tamaño - 1).
+     */
+    public long getFitnessMaximo() {
+        return 2L * tamaño * (tamaño - 1);
+    }
+
+    // Getters
+    public int getTamaño() {
+        return tamaño;
+    }
+    public int getCantidadPiezas() {
+        return tamaño * tamaño;
+    }
+    public int getValorMaximo() {
+        return valorMaximo;
+    }
+    public long getSemilla() {
+        return semilla;
+    }
+    public int getBitsPorLado() {
+        return bits;
+    }
+}
@@ -1,3 +1,5 @@
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
 /*
@@ -10,12 +12,8 @@ public class Tablero {
     private Pieza[][] tablero; 
     private int tamaño;
 
-    //Contadores
-    private long comparaciones;
-    private long asignaciones;
-    private long alternativas;
-    private long podas;
-    private long instrucciones;
+    // Contadores (medición empírica)
+    private Metricas metricas;
 
     /**
      * Constructor de la clase Tablero.
@@ -23,20 +21,23 @@ public class Tablero {
      * Inicialización del tablero y los contadores.
      */
     public Tablero(int tamaño) {
+        this(tamaño, new MetricasSimples());
+    }
+
+    /**
+     * Constructor con las métricas a utilizar.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param metricas Métricas donde se registran las mediciones (MetricasNulas para no medir).
+     */
+    public Tablero(int tamaño, Metricas metricas) {
         this.tamaño = tamaño;
         this.tablero = new Pieza[tamaño][tamaño];
-
-        // Medición empírica
-        this.comparaciones = 0;
-        this.asignaciones = 0;
-        this.alternativas = 0;
-        this.podas = 0;
-        this.instrucciones = 0;
+        this.metricas = metricas;
     }
 
     /**
      * Método para colocar una pieza en el tablero.
-     * Y marca la pieza como usada.
+     * Marcar la pieza como usada le corresponde a cada algoritmo.
      * Armado de rompecabeza.
      * @param fila Fila donde se colocará la pieza.
      * @param columna Columna donde se colocará la pieza.
@@ -44,10 +45,7 @@ public class Tablero {
      */
     public void colocarPieza(int fila, int columna, Pieza pieza) {
         tablero[fila][columna] = pieza;
-        asignaciones++;
-
-        pieza.setUsada(true);
-        asignaciones++;
+        metricas.incrementarAsignaciones();
     }
 
     /**
@@ -58,14 +56,12 @@ public class Tablero {
      */
     public void quitarPieza(int fila, int columna) {
         Pieza pieza = tablero[fila][columna];
-        asignaciones++;
+        metricas.incrementarAsignaciones();
 
-        comparaciones++;
+        metricas.incrementarComparaciones();
         if (pieza != null) {
-            pieza.setUsada(false);
-            asignaciones++;
             tablero[fila][columna] = null;
-            asignaciones++;
+            metricas.incrementarAsignaciones();
         }
     }
 
@@ -79,25 +75,25 @@ public class Tablero {
      */
     public boolean encaja(int fila, int columna, Pieza pieza) {
         // Verificar en sentido vertical
-        comparaciones++;
+        metricas.incrementarComparaciones();
         if (fila > 0 && tablero[fila - 1][columna] != null) {
-            comparaciones++;
+            metricas.incrementarComparaciones();
             Pieza piezaArriba = tablero[fila - 1][columna];
-            asignaciones++;
+            metricas.incrementarAsignaciones();
             if (piezaArriba.getAbajo() != pieza.getArriba()) {
-                podas++;
+                metricas.incrementarPodas();
                 return false;
                 
             }
         }
         // Verificar en sentido horizontal
-        comparaciones++;
+        metricas.incrementarComparaciones();
         if (columna > 0 && tablero[fila][columna - 1] != null) {
-            comparaciones++;
+            metricas.incrementarComparaciones();
             Pieza piezaIzquierda = tablero[fila][columna - 1];
-            asignaciones++;
+            metricas.incrementarAsignaciones();
             if (piezaIzquierda.getDerecha() != pieza.getIzquierda()) {
-                podas++;
+                metricas.incrementarPodas();
                 return false;
             }
         }
@@ -108,46 +104,49 @@ public class Tablero {
      * Método para incrementar el contador de alternativas exploradas.
      */
     public void incrementarAlternativas() {
-        alternativas++;
+        metricas.incrementarAlternativas();
     }
 
     /**
      * Método para incrementar el contador de comparaciones realizadas.
      */
     public void incrementarComparaciones() {
-        comparaciones++;
+        metricas.incrementarComparaciones();
     }
 
     /**
      * Método para incrementar el contador de asignaciones realizadas.
      */
     public void incrementarAsignaciones() {
-        asignaciones++;
+        metricas.incrementarAsignaciones();
     }
 
     /**
      * Método para incrementar el contador de podas realizadas.
      */
     public void incrementarPodas() {
-        podas++;
+        metricas.incrementarPodas();
     }
 
     // Getters para los contadores
     public long getComparaciones() {
-        return comparaciones;
+        return metricas.getComparaciones();
     }
     public long getAsignaciones() {
-        return asignaciones;
+        return metricas.getAsignaciones();
     }
     public long getAlternativas() {
-        return alternativas;
+        return metricas.getAlternativas();
     }
     public long getPodas() {
-        return podas;
+        return metricas.getPodas();
     }
     public long getInstrucciones() {
-        instrucciones = comparaciones + asignaciones;
-        return instrucciones;
+        return metricas.getInstrucciones();
+    }
+
+    public Metricas getMetricas() {
+        return metricas;
     }
 
     // Probar
@@ -170,58 +169,25 @@ public class Tablero {
         }
         
         // Mostrar el tablero
-        for (int i = 0; i < tamaño; i++) {
-            for (int linea = 0; linea < 3; linea++) {
-                for (int j = 0; j < tamaño; j++) {
-                    if (tableroTemp[i][j] != null) {
-                        System.out.print(tableroTemp[i][j].visualizacionLineas()[linea] + " ");
-                    } else {
-                        imprimirVacio(linea);
-                    }
-                }
-                System.out.println();
-            }
-            System.out.println();
-        }
+        RenderizadorTablero.delHilo().imprimir(tableroTemp, false, System.out);
     }
 
     /**
      * Método para imprimir el tablero en la consola.
-     * Representación visual de las piezas y espacios vacíos.
+     * Representación visual de las piezas y espacios vacíos, escrita con una sola impresión.
      */
     public void imprimirTablero() {
-
-        for (int i = 0; i < tamaño; i++) {
-
-            for (int linea = 0; linea < 3; linea++) {
-
-                for (int j = 0; j < tamaño; j++) {
-
-                    if (tablero[i][j] != null) {
-                        System.out.print(tablero[i][j].visualizacionLineas()[linea] + " ");
-                    } else {
-                        imprimirVacio(linea);
-                    }
-                }
-
-                System.out.println();
-            }
-
-            System.out.println();
-        }
+        RenderizadorTablero.delHilo().imprimir(tablero, true, System.out);
     }
 
     /**
-     * Método auxiliar para imprimir una representación visual de una posición vacía en el tablero.
-     * @param linea Línea actual (0, 1 o 2) para determinar qué parte de la pieza vacía imprimir.
+     * Escribe el tablero en un archivo de texto, fila por fila, sin armarlo completo en memoria.
+     * Pensado para tableros grandes.
+     * @param archivo Ruta del archivo (se crea o se reemplaza).
+     * @throws IOException Si no se puede escribir el archivo.
      */
-    private void imprimirVacio(int linea) {
-
-        if (linea == 0 || linea == 2) {
-            System.out.print("  --   ");
-        } else {
-            System.out.print("--     -- ");
-        }
+    public void guardar(Path archivo) throws IOException {
+        RenderizadorTablero.delHilo().escribir(tablero, true, archivo);
     }
 
 
@@ -232,4 +198,43 @@ public class Tablero {
     public Pieza getPieza(int fila, int columna) {
         return tablero[fila][columna];
     }
+
+    /**
+     * Crea una copia del tablero con las piezas colocadas hasta ahora.
+     * La copia no registra mediciones.
+     * @return Copia del tablero.
+     */
+    public Tablero copiar() {
+        Tablero copia = new Tablero(tamaño, MetricasNulas.INSTANCIA);
+        for (int i = 0; i < tamaño; i++) {
+            copia.tablero[i] = tablero[i].clone();
+        }
+        return copia;
+    }
+
+    /**
+     * Cuenta los lados internos que coinciden entre piezas vecinas colocadas
+     * (el fitness del tablero). No registra mediciones.
+     * @return Cantidad de lados que coinciden.
+     */
+    public int contarCoincidencias() {
+        int coincidencias = 0;
+        for (int i = 0; i < tamaño; i++) {
+            for (int j = 0; j < tamaño; j++) {
+                Pieza pieza = tablero[i][j];
+                if (pieza == null) {
+                    continue;
+                }
+                if (j + 1 < tamaño && tablero[i][j + 1] != null
+                        && pieza.getDerecha() == tablero[i][j + 1].getIzquierda()) {
+                    coincidencias++;
+                }
+                if (i + 1 < tamaño && tablero[i + 1][j] != null
+                        && pieza.getAbajo() == tablero[i + 1][j].getArriba()) {
+                    coincidencias++;
+                }
+            }
+        }
+        return coincidencias;
+    }
 }
@@ -0,0 +1,74 @@
+import java.util.Arrays;
+
+/**
+ * Variante compacta del tablero.
+ * Guarda el id de la pieza de cada celda en un int[] plano (fila * tamaño + columna),
+ * sin objetos Pieza por celda; los lados se leen de un AlmacenPiezas.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class TableroCompacto {
+
+    // Valor de una celda sin pieza
+    public static final int VACIA = -1;
+
+    private int[] celdas;
+    private int tamaño;
+
+    /**
+     * Constructor de un tablero vacío.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     */
+    public TableroCompacto(int tamaño) {
+        this.tamaño = tamaño;
+        this.celdas = new int[tamaño * tamaño];
+        Arrays.fill(celdas, VACIA);
+    }
+
+    /**
+     * Constructor de copia.
+     * @param otro Tablero a copiar.
+     */
+    public TableroCompacto(TableroCompacto otro) {
+        this.tamaño = otro.tamaño;
+        this.celdas = otro.celdas.clone();
+    }
+
+    /**
+     * Coloca una pieza en una celda.
+     * @param pos Celda (fila * tamaño + columna).
+     * @param id Id de la pieza.
+     */
+    public void colocarPieza(int pos, int id) {
+        celdas[pos] = id;
+    }
+
+    /**
+     * Quita la pieza de una celda.
+     * @param pos Celda (fila * tamaño + columna).
+     */
+    public void quitarPieza(int pos) {
+        celdas[pos] = VACIA;
+    }
+
+    /**
+     * Obtiene el id de la pieza de una celda.
+     * @param pos Celda (fila * tamaño + columna).
+     * @return Id de la pieza, o VACIA.
+     */
+    public int getPieza(int pos) {
+        return celdas[pos];
+    }
+
+    /**
+     * Obtiene el arreglo interno de celdas.
+     * @return Ids por celda.
+     */
+    public int[] getCeldas() {
+        return celdas;
+    }
+
+    public int getTamaño() {
+        return tamaño;
+    }
+}
@@ -0,0 +1,122 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Clase auxiliar que agrupa las piezas idénticas (mismos cuatro lados) en tipos con su cantidad.
+ * Con rangos pequeños Piezas genera muchas piezas repetidas, y probar cada copia como una
+ * alternativa distinta multiplica el árbol de búsqueda por el factorial de las repeticiones.
+ * Las búsquedas colocan tipos (la siguiente copia sin usar) y así cada combinación de lados
+ * se prueba una sola vez.
+ *
+ * Los tipos se numeran en el orden de la primera aparición de cada pieza en la lista, por lo que
+ * recorrer tipos en orden equivale a recorrer las piezas en orden saltando las copias repetidas.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class TiposPiezas {
+
+    private final ArrayList<Pieza> piezas;
+
+    // Primera pieza de cada tipo (con la que se indexan los tipos) y tipo de cada pieza
+    private final ArrayList<Pieza> representantes;
+    private final int[] tipoDe;
+
+    // Ids de las copias de cada tipo: copias[inicio[tipo]] .. copias[inicio[tipo + 1] - 1]
+    private final int[] inicio;
+    private final int[] copias;
+
+    /**
+     * Constructor que agrupa las piezas por sus lados.
+     * @param piezas Lista de piezas.
+     */
+    public TiposPiezas(ArrayList<Pieza> piezas) {
+        this.piezas = piezas;
+        this.representantes = new ArrayList<>();
+        this.tipoDe = new int[piezas.size()];
+
+        HashMap<List<Integer>, Integer> tipos = new HashMap<>();
+        for (int id = 0; id < piezas.size(); id++) {
+            Pieza pieza = piezas.get(id);
+            List<Integer> lados = Arrays.asList(pieza.getArriba(), pieza.getDerecha(), pieza.getAbajo(),
+                                                pieza.getIzquierda());
+            Integer tipo = tipos.get(lados);
+            if (tipo == null) {
+                tipo = representantes.size();
+                tipos.put(lados, tipo);
+                representantes.add(pieza);
+            }
+            tipoDe[id] = tipo;
+        }
+
+        // Agrupar los ids por tipo conservando su orden (ordenamiento por conteo)
+        this.inicio = new int[representantes.size() + 1];
+        for (int tipo : tipoDe) {
+            inicio[tipo + 1]++;
+        }
+        for (int tipo = 1; tipo < inicio.length; tipo++) {
+            inicio[tipo] += inicio[tipo - 1];
+        }
+        this.copias = new int[piezas.size()];
+        int[] siguiente = Arrays.copyOf(inicio, representantes.size());
+        for (int id = 0; id < piezas.size(); id++) {
+            copias[siguiente[tipoDe[id]]++] = id;
+        }
+    }
+
+    /**
+     * Crea el arreglo de copias sin usar de cada tipo, para que cada búsqueda lleve su propia cuenta.
+     * @return Cantidad de copias de cada tipo.
+     */
+    public int[] crearRestantes() {
+        int[] restantes = new int[representantes.size()];
+        for (int tipo = 0; tipo < restantes.length; tipo++) {
+            restantes[tipo] = getCantidad(tipo);
+        }
+        return restantes;
+    }
+
+    /**
+     * Obtiene la pieza concreta de la siguiente copia sin usar de un tipo.
+     * @param tipo Tipo de pieza.
+     * @param restantes Copias sin usar del tipo antes de colocarla (mayor que 0).
+     * @return Pieza de la lista original.
+     */
+    public Pieza getCopia(int tipo, int restantes) {
+        return piezas.get(copias[inicio[tipo + 1] - restantes]);
+    }
+
+    /**
+     * Obtiene el id (posición en la lista original) de la siguiente copia sin usar de un tipo.
+     * @param tipo Tipo de pieza.
+     * @param restantes Copias sin usar del tipo antes de colocarla (mayor que 0).
+     * @return Id de la pieza.
+     */
+    public int getIdCopia(int tipo, int restantes) {
+        return copias[inicio[tipo + 1] - restantes];
+    }
+
+    /**
+     * Obtiene la primera pieza de cada tipo; su posición en la lista es el número de tipo,
+     * por lo que se puede indexar con IndicePiezas.
+     * @return Lista compartida que no debe modificarse.
+     */
+    public ArrayList<Pieza> getRepresentantes() {
+        return representantes;
+    }
+
+    // Getters
+    public int getCantidadTipos() {
+        return representantes.size();
+    }
+    public int getCantidad(int tipo) {
+        return inicio[tipo + 1] - inicio[tipo];
+    }
+    public int getTipo(int id) {
+        return tipoDe[id];
+    }
+    public int getCantidadPiezas() {
+        return piezas.size();
+    }
+}
@@ -6,6 +6,7 @@
 public class ValidadorPosicion {
     
     private Tablero tablero;
+    private Metricas metricas;
     
     /**
      * Constructor que recibe el tablero a validar.
@@ -13,6 +14,7 @@ public class ValidadorPosicion {
      */
     public ValidadorPosicion(Tablero tablero) {
         this.tablero = tablero;
+        this.metricas = tablero.getMetricas();
     }
     
     /**
@@ -25,22 +27,22 @@ public class ValidadorPosicion {
      */
     public boolean encaja(int fila, int columna, Pieza pieza) {
         // Validar con pieza arriba
-        tablero.incrementarComparaciones();
+        metricas.incrementarComparaciones();
         if (fila > 0 && tablero.getPieza(fila - 1, columna) != null) {
-            tablero.incrementarComparaciones();
+            metricas.incrementarComparaciones();
             Pieza piezaArriba = tablero.getPieza(fila - 1, columna);
-            tablero.incrementarAsignaciones();
+            metricas.incrementarAsignaciones();
             if (piezaArriba.getAbajo() != pieza.getArriba()) {
                 return false;
             }
         }
         
         // Validar con pieza a la izquierda
-        tablero.incrementarComparaciones();
+        metricas.incrementarComparaciones();
         if (columna > 0 && tablero.getPieza(fila, columna - 1) != null) {
-            tablero.incrementarComparaciones();
+            metricas.incrementarComparaciones();
             Pieza piezaIzquierda = tablero.getPieza(fila, columna - 1);
-            tablero.incrementarAsignaciones();
+            metricas.incrementarAsignaciones();
             if (piezaIzquierda.getDerecha() != pieza.getIzquierda()) {
                 return false;
             }
@@ -0,0 +1,262 @@
+/**
+ * Clase que arma un rompecabezas mapeado en memoria (RompecabezasMapeado) con una estrategia voraz,
+ * para tableros que no caben como objetos Pieza (1000x1000 o más).
+ * Recorre las celdas por filas y en cada una coloca una pieza sin usar que coincida con la de arriba
+ * y la de la izquierda; si no hay, una que coincida con una de las dos y, si tampoco, cualquiera.
+ * No retrocede, por lo que no siempre arma el rompecabezas completo: el fitness obtenido mide la
+ * calidad alcanzable en tableros grandes.
+ *
+ * Los lados se leen del mapeo; las piezas se agrupan por lados en índices de enteros (arriba e
+ * izquierda, solo arriba y solo izquierda), con un cursor por grupo que salta las piezas ya usadas.
+ * Usa unos 16 bytes de heap por pieza (los tres índices y la distribución resultante).
+ * El tablero del resultado solo se arma con objetos si tiene a lo sumo TABLERO_MAXIMO de lado;
+ * la distribución completa se obtiene con getIds().
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class VorazMapeado implements Resolvedor {
+
+    // Lado máximo del tablero que se devuelve como Tablero en el resultado
+    public static final int TABLERO_MAXIMO = 100;
+
+    private final RompecabezasMapeado rompecabezas;
+    private final int tamaño;
+    private final int base;
+    private Metricas metricas;
+    private ResultadoEjecucion resultado;
+    private boolean mostrarResultados;
+
+    // Distribución: id de la pieza de cada celda (fila * tamaño + columna)
+    private int[] ids;
+    private long[] usadas;
+
+    // Índices de piezas agrupadas por clave: ids[inicio[clave]] .. ids[inicio[clave + 1] - 1]
+    private int[] inicioPar;
+    private int[] piezasPar;
+    private int[] cursorPar;
+    private int[] inicioArriba;
+    private int[] piezasArriba;
+    private int[] cursorArriba;
+    private int[] inicioIzquierda;
+    private int[] piezasIzquierda;
+    private int[] cursorIzquierda;
+    private int cursorGeneral;
+
+    /**
+     * Constructor.
+     * @param rompecabezas Rompecabezas mapeado.
+     */
+    public VorazMapeado(RompecabezasMapeado rompecabezas) {
+        if (rompecabezas.getBitsPorLado() > 12) {
+            throw new IllegalArgumentException("El armado voraz admite lados de hasta 12 bits (valor máximo 4095)");
+        }
+        if (rompecabezas.getFitnessMaximo() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tablero demasiado grande: " + rompecabezas.getTamaño());
+        }
+        this.rompecabezas = rompecabezas;
+        this.tamaño = rompecabezas.getTamaño();
+        this.base = 1 << rompecabezas.getBitsPorLado();
+        this.metricas = new MetricasSimples();
+        this.mostrarResultados = true;
+    }
+
+    /**
+     * Activa o desactiva la impresión del reporte al terminar.
+     * @param mostrarResultados true para imprimir.
+     */
+    @Override
+    public void setMostrarResultados(boolean mostrarResultados) {
+        this.mostrarResultados = mostrarResultados;
+    }
+
+    /**
+     * Arma el tablero sin exceder el presupuesto. Si se agota, las celdas restantes
+     * se llenan con las piezas sin usar en orden, sin buscar coincidencias.
+     * @param presupuesto Tiempo y nodos máximos (un nodo por celda), y cancelación.
+     * @return Resultado con el fitness de la distribución obtenida.
+     */
+    @Override
+    public ResultadoEjecucion resolver(Presupuesto presupuesto) {
+        metricas = new MetricasSimples();
+        MedicionMemoria medicion = MedicionMemoria.iniciar(false, presupuesto.isMedirMemoria());
+
+        long inicio = System.nanoTime();
+        presupuesto.iniciar();
+
+        int cantidad = tamaño * tamaño;
+        ids = new int[cantidad];
+        usadas = new long[(cantidad + 63) >>> 6];
+        cursorGeneral = 0;
+        construirIndices();
+
+        for (int celda = 0; celda < cantidad; celda++) {
+            int pieza = presupuesto.agotado() ? cualquiera() : elegir(celda / tamaño, celda % tamaño);
+            ids[celda] = pieza;
+            usadas[pieza >>> 6] |= 1L << pieza;
+            metricas.incrementarAsignaciones();
+        }
+
+        // Liberar los índices antes de medir el fitness
+        inicioPar = piezasPar = cursorPar = null;
+        inicioArriba = piezasArriba = cursorArriba = null;
+        inicioIzquierda = piezasIzquierda = cursorIzquierda = null;
+        usadas = null;
+
+        int fitness = (int) rompecabezas.contarCoincidencias(ids);
+        int fitnessMaximo = (int) rompecabezas.getFitnessMaximo();
+        long fin = System.nanoTime();
+        medicion.detener();
+
+        this.resultado = new ResultadoEjecucion("Voraz (mapeado)", fitness == fitnessMaximo, presupuesto.isAgotado(),
+                                                aTablero(), fitness, fitnessMaximo, fin - inicio, medicion, metricas);
+        if (!mostrarResultados) {
+            return this.resultado;
+        }
+
+        System.out.println("====== Voraz sobre archivo mapeado ======");
+        System.out.println("Tamaño: " + tamaño + "x" + tamaño);
+        System.out.println("Solución encontrada: " + resultado.isSolucionEncontrada());
+        if (presupuesto.isAgotado()) {
+            System.out.println("Búsqueda detenida: " + presupuesto.getMotivo() + ".");
+        }
+        System.out.println("Fitness: " + fitness + "/" + fitnessMaximo
+                           + String.format(" (%.2f %%)", 100.0 * fitness / Math.max(1, fitnessMaximo)));
+        System.out.println("Duración: " + String.format("%.3f s", resultado.getTiempoSegundos()));
+        resultado.imprimirMemoria();
+        System.out.println("Comparaciones: " + metricas.getComparaciones());
+        System.out.println("Asignaciones: " + metricas.getAsignaciones());
+        System.out.println("=========================================");
+        if (resultado.getMejorTablero() != null && tamaño <= 10) {
+            resultado.getMejorTablero().imprimirTablero();
+        }
+        return this.resultado;
+    }
+
+    /**
+     * Elige la pieza de una celda según sus vecinas ya colocadas (arriba e izquierda).
+     */
+    private int elegir(int fila, int columna) {
+        int pieza = -1;
+        if (fila > 0 && columna > 0) {
+            int arriba = rompecabezas.getAbajo(ids[(fila - 1) * tamaño + columna]);
+            int izquierda = rompecabezas.getDerecha(ids[fila * tamaño + columna - 1]);
+            pieza = tomar(inicioPar, piezasPar, cursorPar, arriba * base + izquierda);
+            if (pieza < 0) {
+                pieza = tomar(inicioArriba, piezasArriba, cursorArriba, arriba);
+            }
+            if (pieza < 0) {
+                pieza = tomar(inicioIzquierda, piezasIzquierda, cursorIzquierda, izquierda);
+            }
+        } else if (fila > 0) {
+            pieza = tomar(inicioArriba, piezasArriba, cursorArriba, rompecabezas.getAbajo(ids[(fila - 1) * tamaño]));
+        } else if (columna > 0) {
+            pieza = tomar(inicioIzquierda, piezasIzquierda, cursorIzquierda, rompecabezas.getDerecha(ids[columna - 1]));
+        }
+        return pieza >= 0 ? pieza : cualquiera();
+    }
+
+    /**
+     * Devuelve la primera pieza sin usar del grupo de una clave, o -1 si no queda ninguna.
+     * El cursor del grupo avanza sobre las piezas usadas, que no vuelven a revisarse.
+     */
+    private int tomar(int[] inicio, int[] piezas, int[] cursor, int clave) {
+        int fin = inicio[clave + 1];
+        for (int k = cursor[clave]; k < fin; k++) {
+            metricas.incrementarComparaciones();
+            int pieza = piezas[k];
+            if ((usadas[pieza >>> 6] & (1L << pieza)) == 0) {
+                cursor[clave] = k;
+                return pieza;
+            }
+        }
+        cursor[clave] = fin;
+        return -1;
+    }
+
+    /**
+     * Devuelve la primera pieza sin usar en el orden del archivo.
+     */
+    private int cualquiera() {
+        while ((usadas[cursorGeneral >>> 6] & (1L << cursorGeneral)) != 0) {
+            metricas.incrementarComparaciones();
+            cursorGeneral++;
+        }
+        return cursorGeneral;
+    }
+
+    /**
+     * Agrupa las piezas por (arriba, izquierda), por arriba y por izquierda (ordenamiento por conteo).
+     */
+    private void construirIndices() {
+        int cantidad = tamaño * tamaño;
+        inicioPar = new int[base * base + 1];
+        inicioArriba = new int[base + 1];
+        inicioIzquierda = new int[base + 1];
+        for (int pieza = 0; pieza < cantidad; pieza++) {
+            int arriba = rompecabezas.getArriba(pieza);
+            int izquierda = rompecabezas.getIzquierda(pieza);
+            inicioPar[arriba * base + izquierda + 1]++;
+            inicioArriba[arriba + 1]++;
+            inicioIzquierda[izquierda + 1]++;
+        }
+        acumular(inicioPar);
+        acumular(inicioArriba);
+        acumular(inicioIzquierda);
+
+        cursorPar = inicioPar.clone();
+        cursorArriba = inicioArriba.clone();
+        cursorIzquierda = inicioIzquierda.clone();
+        piezasPar = new int[cantidad];
+        piezasArriba = new int[cantidad];
+        piezasIzquierda = new int[cantidad];
+        for (int pieza = 0; pieza < cantidad; pieza++) {
+            int arriba = rompecabezas.getArriba(pieza);
+            int izquierda = rompecabezas.getIzquierda(pieza);
+            piezasPar[cursorPar[arriba * base + izquierda]++] = pieza;
+            piezasArriba[cursorArriba[arriba]++] = pieza;
+            piezasIzquierda[cursorIzquierda[izquierda]++] = pieza;
+        }
+
+        // Los cursores empiezan al inicio de cada grupo
+        System.arraycopy(inicioPar, 0, cursorPar, 0, cursorPar.length);
+        System.arraycopy(inicioArriba, 0, cursorArriba, 0, cursorArriba.length);
+        System.arraycopy(inicioIzquierda, 0, cursorIzquierda, 0, cursorIzquierda.length);
+    }
+
+    private static void acumular(int[] conteos) {
+        for (int k = 1; k < conteos.length; k++) {
+            conteos[k] += conteos[k - 1];
+        }
+    }
+
+    /**
+     * Arma el Tablero de la distribución si es pequeño.
+     * @return Tablero sin mediciones, o null si tiene más de TABLERO_MAXIMO de lado.
+     */
+    private Tablero aTablero() {
+        if (tamaño > TABLERO_MAXIMO) {
+            return null;
+        }
+        Tablero tablero = new Tablero(tamaño, MetricasNulas.INSTANCIA);
+        for (int celda = 0; celda < ids.length; celda++) {
+            tablero.colocarPieza(celda / tamaño, celda % tamaño, rompecabezas.getPieza(ids[celda]));
+        }
+        return tablero;
+    }
+
+    /**
+     * Obtiene la distribución de la última ejecución.
+     * @return Id de la pieza de cada celda (fila * tamaño + columna), o null si aún no se ha resuelto.
+     */
+    public int[] getIds() {
+        return ids;
+    }
+
+    /**
+     * Obtiene el resultado estructurado de la última ejecución.
+     * @return Resultado, o null si aún no se ha resuelto.
+     */
+    public ResultadoEjecucion getResultado() {
+        return resultado;
+    }
+}
@@ -0,0 +1,135 @@
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import benchmarks.Carga;
+
+/**
+ * Implementación de las operaciones medidas por los benchmarks.
+ * Está en el paquete por defecto para poder usar las clases del proyecto.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public class CargaRompecabezas implements Carga {
+
+    private ArrayList<Pieza> piezas;
+    private int tamaño;
+
+    // Estado de los micro benchmarks
+    private Tablero tableroParcial;
+    private int filaPrueba;
+    private int columnaPrueba;
+    private Cromosoma cromosoma;
+    private Cromosoma padre1;
+    private Cromosoma padre2;
+    private Pieza[][] matriz;
+    private Genetico genetico;
+    private SplittableRandom random;
+
+    // Presupuesto sin límite ni medición de memoria (sin Runtime.gc() ni muestreo del heap por operación)
+    private Presupuesto presupuesto;
+
+    @Override
+    public void preparar(int tamaño, int valorMaximo, long semilla) {
+        this.tamaño = tamaño;
+        this.piezas = new Piezas(tamaño, valorMaximo, semilla).getPiezas();
+        SplittableRandom generador = new SplittableRandom(semilla);
+
+        // Tablero lleno hasta la mitad; se prueba la celda siguiente
+        tableroParcial = new Tablero(tamaño);
+        int mitad = piezas.size() / 2;
+        for (int pos = 0; pos < mitad; pos++) {
+            tableroParcial.colocarPieza(pos / tamaño, pos % tamaño, piezas.get(pos));
+        }
+        filaPrueba = mitad / tamaño;
+        columnaPrueba = mitad % tamaño;
+
+        AlmacenPiezas almacen = new AlmacenPiezas(piezas);
+        cromosoma = new Cromosoma(almacen, permutacion(generador), tamaño);
+        padre1 = new Cromosoma(almacen, permutacion(generador), tamaño);
+        padre2 = new Cromosoma(almacen, permutacion(generador), tamaño);
+        matriz = cromosoma.aMatriz();
+
+        genetico = new Genetico(tamaño, piezas, semilla, 1);
+        genetico.setMostrarProceso(false);
+        random = generador.split();
+
+        presupuesto = Presupuesto.sinLimite();
+        presupuesto.setMedirMemoria(false);
+    }
+
+    /**
+     * Genera una permutación aleatoria de los ids de las piezas.
+     * @param generador Generador de números aleatorios.
+     * @return Ids desordenados.
+     */
+    private int[] permutacion(SplittableRandom generador) {
+        int[] ids = new int[piezas.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        for (int i = ids.length - 1; i > 0; i--) {
+            int j = generador.nextInt(i + 1);
+            int temp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = temp;
+        }
+        return ids;
+    }
+
+    /**
+     * Resuelve sin reporte, sin contadores y sin medición de memoria, para medir solo la búsqueda.
+     */
+    private ResultadoEjecucion resolver(Resolvedor resolvedor) {
+        resolvedor.setMostrarResultados(false);
+        return resolvedor.resolver(presupuesto);
+    }
+
+    @Override
+    public boolean fuerzaBruta() {
+        return resolver(new FuerzaBruta(piezas, tamaño, MetricasNulas.INSTANCIA)).isSolucionEncontrada();
+    }
+
+    @Override
+    public boolean fuerzaBrutaBits() {
+        return resolver(new FuerzaBrutaBits(piezas, tamaño, MetricasNulas.INSTANCIA)).isSolucionEncontrada();
+    }
+
+    @Override
+    public boolean avanceRapido() {
+        return resolver(new AvanceRapido(piezas, tamaño, MetricasNulas.INSTANCIA)).isSolucionEncontrada();
+    }
+
+    @Override
+    public int genetico(long semilla) {
+        Genetico g = new Genetico(tamaño, Genetico.calcularPoblacionInicial(tamaño), 10, 0.75, piezas, semilla, 1,
+                                  MetricasNulas.INSTANCIA);
+        return resolver(g).getFitness();
+    }
+
+    @Override
+    public int encaja() {
+        int encajan = 0;
+        for (int i = 0; i < piezas.size(); i++) {
+            if (tableroParcial.encaja(filaPrueba, columnaPrueba, piezas.get(i))) {
+                encajan++;
+            }
+        }
+        return encajan;
+    }
+
+    @Override
+    public int calcularFitness() {
+        cromosoma.calcularFitness();
+        return cromosoma.getFitness();
+    }
+
+    @Override
+    public int cruzar() {
+        return genetico.cruzar(padre1, padre2, random).getFitness();
+    }
+
+    @Override
+    public int renderizar() {
+        return RenderizadorTablero.delHilo().aTexto(matriz, false).length();
+    }
+}
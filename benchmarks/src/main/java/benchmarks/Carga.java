@@ -0,0 +1,82 @@
+package benchmarks;
+
+/**
+ * Operaciones del rompecabezas que miden los benchmarks.
+ * Las clases del proyecto están en el paquete por defecto y no se pueden importar
+ * desde un paquete con nombre (JMH exige uno), por lo que la implementación
+ * (CargaRompecabezas) vive en el paquete por defecto y se carga por nombre una sola vez.
+ * Las llamadas a través de esta interfaz son monomórficas y el JIT las inlinea.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+public interface Carga {
+
+    /**
+     * Genera las piezas de una instancia reproducible.
+     * @param tamaño Tamaño del tablero (tamaño x tamaño).
+     * @param valorMaximo Valor máximo de los lados.
+     * @param semilla Semilla de la instancia.
+     */
+    void preparar(int tamaño, int valorMaximo, long semilla);
+
+    /**
+     * Resuelve la instancia con Fuerza Bruta.
+     * @return true si encontró solución.
+     */
+    boolean fuerzaBruta();
+
+    /**
+     * Resuelve la instancia con Fuerza Bruta con máscaras de bits (FuerzaBrutaBits).
+     * @return true si encontró solución.
+     */
+    boolean fuerzaBrutaBits();
+
+    /**
+     * Resuelve la instancia con Avance Rápido (MRV).
+     * @return true si encontró solución.
+     */
+    boolean avanceRapido();
+
+    /**
+     * Ejecuta el Algoritmo Genético con una semilla fija.
+     * @param semilla Semilla del algoritmo.
+     * @return Fitness alcanzado.
+     */
+    int genetico(long semilla);
+
+    /**
+     * Verifica todas las piezas en una celda de un tablero a medio armar (Tablero.encaja).
+     * @return Cantidad de piezas que encajan.
+     */
+    int encaja();
+
+    /**
+     * Recalcula el fitness de un cromosoma fijo (Cromosoma.calcularFitness).
+     * @return Fitness calculado.
+     */
+    int calcularFitness();
+
+    /**
+     * Cruza dos padres fijos (Genetico.cruzar).
+     * @return Fitness del hijo.
+     */
+    int cruzar();
+
+    /**
+     * Dibuja en texto el tablero de un cromosoma fijo (RenderizadorTablero).
+     * @return Cantidad de caracteres generados.
+     */
+    int renderizar();
+
+    /**
+     * Crea la implementación del paquete por defecto.
+     * @return Nueva carga sin preparar.
+     */
+    static Carga crear() {
+        try {
+            return (Carga) Class.forName("CargaRompecabezas").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se encontró CargaRompecabezas", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro benchmarks de las operaciones más frecuentes:
+ * Tablero.encaja, Cromosoma.calcularFitness, Genetico.cruzar y el dibujo del tablero.
+ * encaja se mide verificando todas las piezas en una celda de un tablero a medio armar,
+ * por lo que su tiempo corresponde a tamaño * tamaño llamadas.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitivasBenchmark {
+
+    @Param({"5", "10", "30"})
+    int tamaño;
+
+    @Param({"9", "15"})
+    int valorMaximo;
+
+    private Carga carga;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        carga = Carga.crear();
+        carga.preparar(tamaño, valorMaximo, SolucionBenchmark.SEMILLA);
+    }
+
+    @Benchmark
+    public int encajaTodasLasPiezas() {
+        return carga.encaja();
+    }
+
+    @Benchmark
+    public int calcularFitness() {
+        return carga.calcularFitness();
+    }
+
+    @Benchmark
+    public int cruzar() {
+        return carga.cruzar();
+    }
+
+    @Benchmark
+    public int renderizar() {
+        return carga.renderizar();
+    }
+}
@@ -0,0 +1,116 @@
+package benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de extremo a extremo de los tres algoritmos, con los tamaños y rangos
+ * de valores que usa MainGeneral. Fuerza Bruta y Avance Rápido solo se miden hasta 5x5,
+ * igual que en MainGeneral.
+ * Los algoritmos se ejecutan sin reporte, con MetricasNulas y sin medición de memoria
+ * (Presupuesto.setMedirMemoria(false)): con la medición cada operación incluiría un Runtime.gc()
+ * y el hilo de muestreo del heap, que cuestan más que resolver un tablero pequeño.
+ * Cualquier otra salida de consola se descarta durante la medición.
+ * @autor Melany Jirón Díaz
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolucionBenchmark {
+
+    // Semilla fija de las instancias y del genético
+    static final long SEMILLA = 20260130L;
+
+    /**
+     * Estado base: genera la instancia y silencia System.out.
+     */
+    @State(Scope.Benchmark)
+    public abstract static class Instancia {
+        Carga carga;
+        private PrintStream salidaOriginal;
+
+        void preparar(int tamaño, int valorMaximo) {
+            carga = Carga.crear();
+            carga.preparar(tamaño, valorMaximo, SEMILLA);
+            salidaOriginal = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        @TearDown(Level.Trial)
+        public void restaurar() {
+            System.setOut(salidaOriginal);
+        }
+    }
+
+    /**
+     * Instancias para los algoritmos de búsqueda completa.
+     */
+    @State(Scope.Benchmark)
+    public static class InstanciaBusqueda extends Instancia {
+        @Param({"3", "5"})
+        int tamaño;
+
+        @Param({"9", "15"})
+        int valorMaximo;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            preparar(tamaño, valorMaximo);
+        }
+    }
+
+    /**
+     * Instancias para el algoritmo genético.
+     */
+    @State(Scope.Benchmark)
+    public static class InstanciaGenetico extends Instancia {
+        @Param({"3", "5", "10", "15", "30"})
+        int tamaño;
+
+        @Param({"9", "15"})
+        int valorMaximo;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            preparar(tamaño, valorMaximo);
+        }
+    }
+
+    @Benchmark
+    public boolean fuerzaBruta(InstanciaBusqueda instancia) {
+        return instancia.carga.fuerzaBruta();
+    }
+
+    @Benchmark
+    public boolean fuerzaBrutaBits(InstanciaBusqueda instancia) {
+        return instancia.carga.fuerzaBrutaBits();
+    }
+
+    @Benchmark
+    public boolean avanceRapido(InstanciaBusqueda instancia) {
+        return instancia.carga.avanceRapido();
+    }
+
+    @Benchmark
+    public int genetico(InstanciaGenetico instancia) {
+        return instancia.carga.genetico(SEMILLA);
+    }
+}